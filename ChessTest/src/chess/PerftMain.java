@@ -0,0 +1,246 @@
+package chess;
+
+import chess.logic.board.Board;
+import chess.logic.board.LegalMoveFilter;
+import chess.logic.board.Move;
+import chess.logic.board.MoveCode;
+import chess.logic.board.MoveList;
+import chess.logic.board.ParallelPerft;
+import chess.logic.board.Perft;
+import chess.logic.board.SearchBoard;
+import chess.logic.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Headless entry point counting the nodes of the move tree of a position, to measure and check move generation.
+ * Usage: {@code PerftMain <position> <depth> [board|bitboard] [--threads N]}, where the position is either the name
+ * of a standard test position (startpos, kiwipete, position_3 ... position_6) or a FEN string in quotes.
+ * <p>
+ * The node count of every root move is printed (divide), followed by the total, the elapsed time and the number of
+ * nodes per second. The last ply is bulk counted. The board generator goes through the move objects
+ * of Board and Piece.getLegalMoves(), as the game does; the bitboard generator makes and takes back move codes
+ * on a SearchBoard. With more than one thread, or 0 for one per core, the tree is counted in parallel
+ * by ParallelPerft; the root moves are submitted together and their counts printed once all are done.
+ * When the position is a standard one, the total is compared with its reference count
+ * and the exit status is 1 if they differ.
+ */
+public class PerftMain {
+    public static void main(String[] args)
+    {
+        final List<String> arguments = new ArrayList<>(List.of(args));
+        int threads = 1;
+        final int threadsIndex = arguments.indexOf("--threads");
+        if(threadsIndex >= 0)
+        {
+            if(threadsIndex + 1 == arguments.size())
+            {
+                exitWithUsage("Missing number of threads");
+            }
+            threads = parseNumber(arguments.remove(threadsIndex + 1), "Number of threads");
+            arguments.remove(threadsIndex);
+        }
+        if(arguments.size() < 2 || arguments.size() > 3)
+        {
+            exitWithUsage(null);
+        }
+        final int depth = parseNumber(arguments.get(1), "Depth");
+        final String generator = arguments.size() == 3 ? arguments.get(2).toLowerCase(Locale.ROOT) : "board";
+        if(depth < 1)
+        {
+            exitWithUsage("Depth must be at least 1: " + depth);
+        }
+        if(threads < 0)
+        {
+            exitWithUsage("Number of threads must not be negative: " + threads);
+        }
+        if(!generator.equals("board") && !generator.equals("bitboard"))
+        {
+            exitWithUsage("Unknown generator: " + arguments.get(2));
+        }
+        final Perft.Position position = findPosition(arguments.get(0));
+        Board board = null;
+        try
+        {
+            board = position != null ? position.createBoard() : Board.fromFen(arguments.get(0));
+        } catch(final IllegalArgumentException exception)
+        {
+            exitWithUsage(exception.getMessage());
+        }
+        final ForkJoinPool pool = threads == 1 ? null : new ForkJoinPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+
+        final long start = System.nanoTime();
+        final long nodes = switch(generator)
+        {
+            case "board" -> divide(board, depth, pool);
+            default -> divide(new SearchBoard(board), depth, pool);
+        };
+        final long elapsed = System.nanoTime() - start;
+        if(pool != null)
+        {
+            pool.shutdown();
+            System.out.println("Threads: " + pool.getParallelism());
+        }
+
+        System.out.println();
+        System.out.println("Nodes: " + nodes);
+        System.out.printf("Time: %.3f s%n", elapsed / 1e9);
+        System.out.println("Nodes/second: " + (elapsed == 0 ? 0 : nodes * 1_000_000_000L / elapsed));
+        if(position != null && depth <= position.getMaxDepth())
+        {
+            final long expected = position.getNodes(depth);
+            System.out.println("Expected: " + expected + (nodes == expected ? " (OK)" : " (MISMATCH)"));
+            if(nodes != expected)
+            {
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Prints what went wrong and how to call the tool, then exits with status 2.
+     *
+     * @param error the problem with the arguments, null if they are simply missing
+     */
+    private static void exitWithUsage(final String error)
+    {
+        if(error != null)
+        {
+            System.err.println(error);
+        }
+        System.err.println("Usage: PerftMain <position> <depth> [board|bitboard] [--threads N]");
+        System.err.println("  position: startpos, kiwipete, position_3 ... position_6, or a FEN string");
+        System.err.println("  threads:  1 to count sequentially (default), 0 for one thread per core");
+        System.exit(2);
+    }
+
+    /**
+     * Reads a whole number argument, exiting with the usage message if it is not one.
+     *
+     * @param text the argument
+     * @param name what the argument stands for, starting the error message
+     * @return the number
+     */
+    private static int parseNumber(final String text, final String name)
+    {
+        try
+        {
+            return Integer.parseInt(text);
+        } catch(final NumberFormatException exception)
+        {
+            exitWithUsage(name + " is not a number: " + text);
+            return 0;
+        }
+    }
+
+    /**
+     * Finds the standard test position with the given name, ignoring case.
+     *
+     * @param name the name of the position
+     * @return the position, or null if the name is not one of them
+     */
+    private static Perft.Position findPosition(final String name)
+    {
+        for(final Perft.Position position : Perft.Position.values())
+        {
+            if(position.name().equalsIgnoreCase(name))
+            {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counts the nodes below every root move of a board, printing each count, with the board generator.
+     *
+     * @param board the position
+     * @param depth the depth, 1 or more
+     * @param pool  the pool counting the root moves in parallel, null to count them one after the other
+     * @return the total number of leaf nodes
+     */
+    private static long divide(final Board board, final int depth, final ForkJoinPool pool)
+    {
+        final Player player = board.getCurrentPlayer();
+        final LegalMoveFilter filter = player.getLegalMoveFilter();
+        final List<String> names = new ArrayList<>();
+        final List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+        long nodes = 0L;
+        for(final Move move : player.getLegalMoves())
+        {
+            if(!filter.isLegal(move))
+            {
+                continue;
+            }
+            final String name = MoveCode.toString(MoveCode.encode(move));
+            if(pool == null)
+            {
+                final long moveNodes = Perft.perft(move.make(), depth - 1);
+                System.out.println(name + ": " + moveNodes);
+                nodes += moveNodes;
+            } else
+            {
+                names.add(name);
+                tasks.add(ParallelPerft.submit(pool, move.make(), depth - 1));
+            }
+        }
+        return nodes + joinAll(names, tasks);
+    }
+
+    /**
+     * Counts the nodes below every root move of a search board, printing each count, with the bitboard generator.
+     *
+     * @param board the position
+     * @param depth the depth, 1 or more
+     * @param pool  the pool counting the root moves in parallel, null to count them one after the other
+     * @return the total number of leaf nodes
+     */
+    private static long divide(final SearchBoard board, final int depth, final ForkJoinPool pool)
+    {
+        final MoveList moves = new MoveList();
+        board.generateLegalMoves(moves);
+        final List<String> names = new ArrayList<>();
+        final List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+        long nodes = 0L;
+        for(int index = 0; index < moves.size(); ++index)
+        {
+            final String name = MoveCode.toString(moves.get(index));
+            board.makeMove(moves.get(index));
+            if(pool == null)
+            {
+                final long moveNodes = Perft.perft(board, depth - 1);
+                System.out.println(name + ": " + moveNodes);
+                nodes += moveNodes;
+            } else
+            {
+                names.add(name);
+                tasks.add(ParallelPerft.submit(pool, board, depth - 1));
+            }
+            board.unmakeMove();
+        }
+        return nodes + joinAll(names, tasks);
+    }
+
+    /**
+     * Waits for the counts of the root moves submitted to the pool, printing each one in move order.
+     *
+     * @param names the root moves in coordinate notation
+     * @param tasks the task counting the subtree of every root move
+     * @return the total number of leaf nodes
+     */
+    private static long joinAll(final List<String> names, final List<ForkJoinTask<Long>> tasks)
+    {
+        long nodes = 0L;
+        for(int index = 0; index < tasks.size(); ++index)
+        {
+            final long moveNodes = tasks.get(index).join();
+            System.out.println(names.get(index) + ": " + moveNodes);
+            nodes += moveNodes;
+        }
+        return nodes;
+    }
+}
@@ -13,22 +13,34 @@ import java.util.*;
  * This class manages the game board, including pieces, player turns, and legal moves.
  */
 public class Board {
-    private final List<Square> gameBoard; // The game board represented as a list of squares
-    private final Collection<Piece> whitePieces; // Collection of white pieces on the board
-    private final Collection<Piece> blackPieces; // Collection of black pieces on the board
+    private final BitBoard bitBoard; // Piece and occupancy sets of the position
+    private final Piece[][] boardPieces; // The piece standing on every square, null if empty, in chunks shared with the boards built from this one
+    private final List<Piece> allPieces; // The pieces on the board, white pieces first
+    private final Collection<Piece> whitePieces; // View on the white pieces of allPieces
+    private final Collection<Piece> blackPieces; // View on the black pieces of allPieces
     private final WhitePlayer whitePlayer; // The white player
     private final BlackPlayer blackPlayer; // The black player
     private final Player currentPlayer; // The current player
+    private volatile AttackMap attackMap; // Squares attacked by every piece, built on first access
+    private volatile CheckInfo checkInfo; // Checking squares and discovered check blockers of the current player, built on first access
+    private volatile GameStatus gameStatus; // Check, mate or stalemate of the current player, computed on first access
 
     private Board(Builder builder)
     {
-        this.gameBoard = initGameBoard(builder);
-        this.whitePieces = trackActivePieces(this.gameBoard, Color.WHITE);
-        this.blackPieces = trackActivePieces(this.gameBoard, Color.BLACK);
-        final Collection<Move> legalWhiteStdLegalMoves = getLegalMoves(this.whitePieces);
-        final Collection<Move> legalBlackStdLegalMoves = getLegalMoves(this.blackPieces);
-        this.whitePlayer = new WhitePlayer(this, legalWhiteStdLegalMoves, legalBlackStdLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, legalBlackStdLegalMoves, legalWhiteStdLegalMoves);
+        this.boardPieces = builder.initialBoard.clone();
+        builder.ownedChunks = 0;
+        builder.bitBoard.disownChunks();
+        this.bitBoard = new BitBoard(builder.bitBoard);
+        this.bitBoard.sideToMove = builder.MoveMaker;
+        this.bitBoard.castlingRights = calcCastlingRights(this.boardPieces);
+        this.bitBoard.enPassantCoord = builder.enPassantCoord;
+        this.bitBoard.zobristKey = builder.hasZobristKey ? builder.zobristKey : Zobrist.calcKey(this.bitBoard);
+        this.allPieces = trackActivePieces(this.bitBoard, this.boardPieces);
+        final int whiteCount = Long.bitCount(this.bitBoard.getOccupancy(Color.WHITE));
+        this.whitePieces = this.allPieces.subList(0, whiteCount);
+        this.blackPieces = this.allPieces.subList(whiteCount, this.allPieces.size());
+        this.whitePlayer = new WhitePlayer(this);
+        this.blackPlayer = new BlackPlayer(this);
         this.currentPlayer = builder.MoveMaker.selectPlayer(this.whitePlayer, this.blackPlayer);
         Move transitionMove = builder.transitionMove != null ? builder.transitionMove : Move.INVALID_MOVE;
     }
@@ -46,7 +58,7 @@ public class Board {
         final StringBuilder builder = new StringBuilder();
         for(int numSquares = 0; numSquares < 64; ++numSquares)
         {
-            final String squaretxt = this.gameBoard.get(numSquares).toString();
+            final String squaretxt = getSquare(numSquares).toString();
             builder.append(String.format("%3s", squaretxt));
             if((numSquares + 1) % 8 == 0)
             {
@@ -57,21 +69,90 @@ public class Board {
     }
 
     /**
-     * Retrieves all legal moves available for the pieces of the specified color on the board.
-     * This method iterates through all pieces of the specified color and retrieves their legal moves
-     * using the Piece's getLegalMoves() method, then adds them to a list of legal moves.
+     * Computes a hash code for the board from its Zobrist key.
+     *
+     * @return the hash code value for the board
+     */
+    @Override
+    public int hashCode()
+    {
+        return Long.hashCode(this.bitBoard.zobristKey);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two boards are considered equal if they have the same pieces on the same squares, the same side to move,
+     * castling rights and en passant square. Boards with different Zobrist keys are told apart at once; boards
+     * with the same key are still compared in full, since different positions can share a key.
+     *
+     * @param object The reference object with which to compare.
+     * @return True if this object is the same position as the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(final Object object)
+    {
+        if(this == object)
+        {
+            return true;
+        }
+        if(!(object instanceof Board otherBoard))
+        {
+            return false;
+        }
+        final BitBoard other = otherBoard.bitBoard;
+        return this.bitBoard.zobristKey == other.zobristKey
+                && Arrays.equals(this.bitBoard.pieceBoards, other.pieceBoards)
+                && this.bitBoard.sideToMove == other.sideToMove
+                && this.bitBoard.castlingRights == other.castlingRights
+                && this.bitBoard.enPassantCoord == other.enPassantCoord;
+    }
+
+    /**
+     * Retrieves the Zobrist hash key of the position.
+     * The key is computed once when a position is set up and then updated incrementally by every move made from it.
+     *
+     * @return the position key
+     */
+    public long getZobristKey()
+    {
+        return this.bitBoard.zobristKey;
+    }
+
+    /**
+     * Calculates all legal moves available for the pieces of the specified color on the board.
+     * This method lets every piece of the specified color write its moves into one scratch buffer of the calling thread
+     * with Piece.generateMoves(), then turns the whole buffer into move objects at once.
+     * Players call it the first time their moves are asked for; the board itself never generates moves up front.
      *
      * @param colorPieces the collection of pieces of the specified color
      * @return a collection of all legal moves available for the pieces of the specified color
      */
-    private Collection<Move> getLegalMoves(Collection<Piece> colorPieces)
+    public Collection<Move> calcLegalMoves(Collection<Piece> colorPieces)
     {
-        final List<Move> legalMoves = new ArrayList<>();
-        for(final Piece piece : colorPieces)
+        final MoveArena arena = MoveArena.current();
+        final MoveList moves = arena.acquire();
+        try
         {
-            legalMoves.addAll(piece.getLegalMoves(this));
+            for(final Piece piece : colorPieces)
+            {
+                piece.generateMoves(this, moves);
+            }
+            return Piece.toMoves(this, moves, new ArrayList<>(moves.size()));
+        } finally
+        {
+            arena.release();
         }
-        return legalMoves;
+    }
+
+    /**
+     * Generates the pseudo-legal moves of the current player as move codes, without creating any Move object.
+     * Codes can be turned into moves with MoveCode.toMove() when one is needed.
+     *
+     * @param moves the list receiving the move codes
+     */
+    public void generateMoves(final MoveList moves)
+    {
+        MoveGenerator.generateMoves(this.bitBoard, moves);
     }
 
     /**
@@ -85,62 +166,254 @@ public class Board {
     }
 
     /**
-     * Tracks and retrieves all active pieces of the specified color on the chess board.
-     * This method iterates through all squares on the board and checks if each square is occupied.
-     * If a square is occupied, it retrieves the piece on that square and checks if the piece's color
-     * matches the specified color. If so, the piece is considered active and added to the list of active pieces.
+     * Counts the legal moves of the current player without creating any Move object.
+     *
+     * @return the number of legal moves
+     */
+    public int legalMoveCount()
+    {
+        return this.currentPlayer.legalMoveCount();
+    }
+
+    /**
+     * Retrieves the status of the game for the current player: check, checkmate, stalemate or none of them.
+     * It is worked out from the legality filter, stopping at the first legal move, and kept for later calls.
      *
-     * @param gameBoard the list of squares representing the chess board
-     * @param color     the color of the pieces to track (WHITE or BLACK)
-     * @return a collection containing all active pieces of the specified color on the board
+     * @return the game status
      */
-    static private Collection<Piece> trackActivePieces(final List<Square> gameBoard, final Color color)
+    public GameStatus getGameStatus()
     {
-        final List<Piece> activePieces = new ArrayList<>();
-        for(final Square square : gameBoard)
+        GameStatus status = this.gameStatus;
+        if(status == null)
         {
-            if(square.isOccupied())
-            {
-                final Piece piece = square.getPiece();
-                if(piece.getPieceColor() == color)
-                {
-                    activePieces.add(piece);
-                }
+            status = GameStatus.of(this.currentPlayer.isInCheck(), this.currentPlayer.hasLegalMove());
+            this.gameStatus = status;
+        }
+        return status;
+    }
 
+    /**
+     * Tracks and retrieves all active pieces on the board, white pieces first.
+     * The pieces are read from the squares of the occupancy sets, without scanning the whole board.
+     *
+     * @param bitBoard    the bitboard position, giving the occupied squares of each color
+     * @param boardPieces the piece standing on every square, in chunks
+     * @return an unmodifiable list of the active pieces
+     */
+    static private List<Piece> trackActivePieces(final BitBoard bitBoard, final Piece[][] boardPieces)
+    {
+        final Piece[] activePieces = new Piece[Long.bitCount(bitBoard.getOccupancy())];
+        int count = 0;
+        for(final Color color : Color.values())
+        {
+            long occupied = bitBoard.getOccupancy(color);
+            while(occupied != 0)
+            {
+                activePieces[count++] = pieceAt(boardPieces, BitBoard.firstSquare(occupied));
+                occupied &= occupied - 1;
             }
         }
-        return activePieces;
+        return List.of(activePieces);
     }
 
     /**
      * Retrieves a square on the board based on its coordinate.
+     * The square is a view on top of the bitboard position and the piece standing on the coordinate.
      *
      * @param squareCoord the coordinate of the square
      * @return the square at the specified coordinate
      */
     public Square getSquare(final int squareCoord)
     {
-        return gameBoard.get(squareCoord);
+        return Square.createSquare(squareCoord, getPiece(squareCoord));
     }
 
     /**
-     * Initializes the game board based on the initial configuration provided by the builder.
-     * This method creates a list of squares representing the chess board. It iterates through each square
-     * index (from 0 to 63) and creates a new square using the Square.createSquare() method, passing the square index
-     * and the corresponding piece from the initial board configuration provided by the builder.
+     * Retrieves the piece standing on a square.
      *
-     * @param builder the builder containing the initial board configuration
-     * @return a list of squares representing the initialized game board
+     * @param squareCoord the coordinate of the square
+     * @return the piece on the square, or null if the square is empty
      */
-    private static List<Square> initGameBoard(final Builder builder)
+    public Piece getPiece(final int squareCoord)
     {
-        final List<Square> squares = new ArrayList<>();
-        for(int numSquares = 0; numSquares < 64; ++numSquares)
+        return pieceAt(this.boardPieces, squareCoord);
+    }
+
+    /**
+     * Retrieves the piece standing on a square of a chunked piece array.
+     *
+     * @param boardPieces the piece standing on every square, in chunks
+     * @param squareCoord the coordinate of the square
+     * @return the piece on the square, or null if the square is empty
+     */
+    private static Piece pieceAt(final Piece[][] boardPieces, final int squareCoord)
+    {
+        return boardPieces[squareCoord >>> BitBoard.CHUNK_SHIFT][squareCoord & BitBoard.CHUNK_MASK];
+    }
+
+    /**
+     * Checks if a square is occupied, using the occupancy set instead of a square object.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return true if a piece stands on the square, false otherwise
+     */
+    public boolean isOccupied(final int squareCoord)
+    {
+        return this.bitBoard.isOccupied(squareCoord);
+    }
+
+    /**
+     * Checks if any piece of the given color attacks a square.
+     * The knight, king and pawn patterns and the slider rays are probed from the square itself,
+     * so no move has to be generated.
+     *
+     * @param squareCoord the coordinate of the square
+     * @param attacker    the color of the attacking pieces
+     * @return true if the square is attacked, false otherwise
+     */
+    public boolean isSquareAttacked(final int squareCoord, final Color attacker)
+    {
+        return this.bitBoard.isSquareAttacked(squareCoord, attacker);
+    }
+
+    /**
+     * Retrieves the pieces of the given color attacking a square.
+     *
+     * @param squareCoord the coordinate of the square
+     * @param attacker    the color of the attacking pieces
+     * @return the set of squares holding attacking pieces
+     */
+    public long attackersTo(final int squareCoord, final Color attacker)
+    {
+        return this.bitBoard.attackersTo(squareCoord, attacker);
+    }
+
+    /**
+     * Retrieves every square attacked by at least one piece of a color.
+     *
+     * @param color the color of the attacking pieces
+     * @return the set of attacked squares
+     */
+    public long attacksOf(final Color color)
+    {
+        return getAttackMap().attacksOf(color);
+    }
+
+    /**
+     * Retrieves the attack map of the position, with the attackers and attack count of every square.
+     * A board never changes, so the map is built the first time it is asked for and kept.
+     * SearchBoard keeps its own map up to date move by move instead.
+     *
+     * @return the attack map
+     */
+    public AttackMap getAttackMap()
+    {
+        AttackMap map = this.attackMap;
+        if(map == null)
         {
-            squares.add(Square.createSquare(numSquares, builder.initialBoard.get((Integer)numSquares)));
+            synchronized(this)
+            {
+                map = this.attackMap;
+                if(map == null)
+                {
+                    map = new AttackMap(this.bitBoard);
+                    this.attackMap = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Checks if a move of the current player gives check, without making it.
+     *
+     * @param move a move of the current player on this board
+     * @return true if the move attacks the opponent's king, false otherwise
+     */
+    public boolean givesCheck(final Move move)
+    {
+        return givesCheck(MoveCode.encode(move));
+    }
+
+    /**
+     * Checks if a move code of the current player gives check, without making it.
+     *
+     * @param move the code of a move of the current player on this board
+     * @return true if the move attacks the opponent's king, false otherwise
+     */
+    public boolean givesCheck(final int move)
+    {
+        return getCheckInfo().givesCheck(move);
+    }
 
+    /**
+     * Retrieves the checking squares and discovered check blockers of the current player.
+     * They are worked out the first time a move is tested and shared by every later test on this board.
+     *
+     * @return the check information of the position
+     */
+    public CheckInfo getCheckInfo()
+    {
+        CheckInfo info = this.checkInfo;
+        if(info == null)
+        {
+            synchronized(this)
+            {
+                info = this.checkInfo;
+                if(info == null)
+                {
+                    info = new CheckInfo(this.bitBoard);
+                    this.checkInfo = info;
+                }
+            }
         }
-        return squares;
+        return info;
+    }
+
+    /**
+     * Retrieves the bitboard representation of the position.
+     *
+     * @return the bitboard position
+     */
+    public BitBoard getBitBoard()
+    {
+        return this.bitBoard;
+    }
+
+    /**
+     * Calculates the castling rights of the position from the pieces on the board.
+     * A right is available while the king is on its starting square, has not moved and is still capable of castling
+     * to that side, and an unmoved rook of the same color stands in the matching corner.
+     *
+     * @param boardPieces the piece standing on every square, in chunks
+     * @return a combination of the castling right bits
+     */
+    private static int calcCastlingRights(final Piece[][] boardPieces)
+    {
+        int castlingRights = 0;
+        if(pieceAt(boardPieces, 60) instanceof King king && king.getPieceColor().isWhite() && king.isFirstMove())
+        {
+            castlingRights |= king.isShortCastleCapable() && isUnmovedRook(pieceAt(boardPieces, 63), Color.WHITE) ? BitBoard.WHITE_SHORT_CASTLE : 0;
+            castlingRights |= king.isLongCastleCapable() && isUnmovedRook(pieceAt(boardPieces, 56), Color.WHITE) ? BitBoard.WHITE_LONG_CASTLE : 0;
+        }
+        if(pieceAt(boardPieces, 4) instanceof King king && king.getPieceColor().isBlack() && king.isFirstMove())
+        {
+            castlingRights |= king.isShortCastleCapable() && isUnmovedRook(pieceAt(boardPieces, 7), Color.BLACK) ? BitBoard.BLACK_SHORT_CASTLE : 0;
+            castlingRights |= king.isLongCastleCapable() && isUnmovedRook(pieceAt(boardPieces, 0), Color.BLACK) ? BitBoard.BLACK_LONG_CASTLE : 0;
+        }
+        return castlingRights;
+    }
+
+    /**
+     * Checks if a piece is a rook of the given color that has not moved yet.
+     *
+     * @param piece the piece to check, possibly null
+     * @param color the expected color of the rook
+     * @return true if the piece is an unmoved rook of the given color, false otherwise
+     */
+    private static boolean isUnmovedRook(final Piece piece, final Color color)
+    {
+        return piece != null && piece.getPieceType().isRook() && piece.getPieceColor() == color && piece.isFirstMove();
     }
 
     /**
@@ -164,16 +437,36 @@ public class Board {
     }
 
     /**
-     * Retrieves all pieces on the board.
+     * Retrieves all pieces on the board, white pieces first.
      *
-     * @return a collection containing all pieces on the board
+     * @return an unmodifiable collection containing all pieces on the board
      */
     public Collection<Piece> getAllPieces()
     {
-        Collection<Piece> allPieces = new ArrayList<>();
-        allPieces.addAll(this.whitePieces);
-        allPieces.addAll(this.blackPieces);
-        return allPieces;
+        return this.allPieces;
+    }
+
+    /**
+     * Retrieves the squares holding the pieces of a color and type, straight from the bitboard position.
+     *
+     * @param color the color of the pieces
+     * @param type  the type of the pieces
+     * @return the set of squares, one bit per piece
+     */
+    public long pieces(final Color color, final Piece.PieceType type)
+    {
+        return this.bitBoard.getPieces(color, type);
+    }
+
+    /**
+     * Retrieves the square of the king of a color.
+     *
+     * @param color the color of the king
+     * @return the coordinate of the king
+     */
+    public int getKingCoord(final Color color)
+    {
+        return BitBoard.firstSquare(this.bitBoard.getPieces(color, Piece.PieceType.KING));
     }
 
     /**
@@ -200,6 +493,7 @@ public class Board {
      * Initializes a standard chess board with the default starting position of pieces for both players.
      * This method constructs a new builder, adds pieces for both white and black players to the initial board configuration,
      * and sets the move maker to white. It then builds a new board using the builder and returns it.
+     * The Zobrist key of the starting position is computed here, once; boards reached by moves derive theirs from it.
      *
      * @return a new Board object representing the standard chess board with the default starting position of pieces
      */
@@ -207,45 +501,162 @@ public class Board {
     public static Board initStdBoard()
     {
         final Builder builder = new Builder();
-        //WHITE pieces
-        builder.setPiece(new Rook(63, Color.WHITE));
-        builder.setPiece(new Rook(56, Color.WHITE));
-        builder.setPiece(new Knight(57, Color.WHITE));
-        builder.setPiece(new Knight(62, Color.WHITE));
-        builder.setPiece(new Bishop(58, Color.WHITE));
-        builder.setPiece(new Bishop(61, Color.WHITE));
-        builder.setPiece(new Queen(59, Color.WHITE));
-        builder.setPiece(new King(60, Color.WHITE, true, true));
-        builder.setPiece(new Pawn(48, Color.WHITE));
-        builder.setPiece(new Pawn(49, Color.WHITE));
-        builder.setPiece(new Pawn(50, Color.WHITE));
-        builder.setPiece(new Pawn(51, Color.WHITE));
-        builder.setPiece(new Pawn(52, Color.WHITE));
-        builder.setPiece(new Pawn(53, Color.WHITE));
-        builder.setPiece(new Pawn(54, Color.WHITE));
-        builder.setPiece(new Pawn(55, Color.WHITE));
-        //Black pieces
-        builder.setPiece(new Rook(0, Color.BLACK));
-        builder.setPiece(new Rook(7, Color.BLACK));
-        builder.setPiece(new Knight(1, Color.BLACK));
-        builder.setPiece(new Knight(6, Color.BLACK));
-        builder.setPiece(new Bishop(2, Color.BLACK));
-        builder.setPiece(new Bishop(5, Color.BLACK));
-        builder.setPiece(new Queen(3, Color.BLACK));
-        builder.setPiece(new King(4, Color.BLACK, true, true));
-        builder.setPiece(new Pawn(8, Color.BLACK));
-        builder.setPiece(new Pawn(9, Color.BLACK));
-        builder.setPiece(new Pawn(10, Color.BLACK));
-        builder.setPiece(new Pawn(11, Color.BLACK));
-        builder.setPiece(new Pawn(12, Color.BLACK));
-        builder.setPiece(new Pawn(13, Color.BLACK));
-        builder.setPiece(new Pawn(14, Color.BLACK));
-        builder.setPiece(new Pawn(15, Color.BLACK));
+        final Piece.PieceType[] backRank = {Piece.PieceType.ROOK, Piece.PieceType.KNIGHT, Piece.PieceType.BISHOP, Piece.PieceType.QUEEN,
+                Piece.PieceType.KING, Piece.PieceType.BISHOP, Piece.PieceType.KNIGHT, Piece.PieceType.ROOK};
+        for(int file = 0; file < 8; ++file)
+        {
+            //WHITE pieces
+            builder.setPiece(initialPiece(backRank[file], Color.WHITE, 56 + file));
+            builder.setPiece(initialPiece(Piece.PieceType.PAWN, Color.WHITE, 48 + file));
+            //Black pieces
+            builder.setPiece(initialPiece(backRank[file], Color.BLACK, file));
+            builder.setPiece(initialPiece(Piece.PieceType.PAWN, Color.BLACK, 8 + file));
+        }
 
         builder.setMoveMaker(Color.WHITE);
         return builder.build();
     }
 
+    /**
+     * Initializes a board from a position in Forsyth-Edwards Notation, such as
+     * "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1".
+     * The piece placement, side to move, castling rights and en passant square are read; the move clocks are ignored.
+     * A castling right is kept only when the king and the rook stand on their starting squares.
+     *
+     * @param fen the position in Forsyth-Edwards Notation
+     * @return a new Board object holding the position
+     * @throws IllegalArgumentException if the text is not a valid position or either side does not have exactly one king
+     */
+    public static Board fromFen(final String fen)
+    {
+        final String[] fields = fen.trim().split("\\s+");
+        if(fields.length < 2)
+        {
+            throw new IllegalArgumentException("Missing fields in FEN: " + fen);
+        }
+        final String castling = fields.length > 2 ? fields[2] : "-";
+        final Builder builder = new Builder();
+        int squareCoord = 0;
+        for(final char symbol : fields[0].toCharArray())
+        {
+            if(symbol == '/')
+            {
+                if(squareCoord % 8 != 0)
+                {
+                    throw new IllegalArgumentException("Incomplete rank in FEN: " + fen);
+                }
+            } else if(Character.isDigit(symbol))
+            {
+                squareCoord += symbol - '0';
+            } else
+            {
+                if(squareCoord >= 64)
+                {
+                    throw new IllegalArgumentException("Too many squares in FEN: " + fen);
+                }
+                builder.setPiece(fenPiece(symbol, squareCoord, castling));
+                ++squareCoord;
+            }
+        }
+        if(squareCoord != 64)
+        {
+            throw new IllegalArgumentException("Wrong number of squares in FEN: " + fen);
+        }
+        for(final Color color : Color.values())
+        {
+            if(Long.bitCount(builder.bitBoard.getPieces(color, Piece.PieceType.KING)) != 1)
+            {
+                throw new IllegalArgumentException("FEN must have exactly one " + color + " king: " + fen);
+            }
+        }
+        switch(fields[1])
+        {
+            case "w" -> builder.setMoveMaker(Color.WHITE);
+            case "b" -> builder.setMoveMaker(Color.BLACK);
+            default -> throw new IllegalArgumentException("Unknown side to move in FEN: " + fen);
+        }
+        if(fields.length > 3 && !fields[3].equals("-"))
+        {
+            final Integer enPassantCoord = BoardData.POSITION_TO_COORD.get(fields[3]);
+            if(enPassantCoord == null)
+            {
+                throw new IllegalArgumentException("Unknown en passant square in FEN: " + fen);
+            }
+            builder.setEnPassantCoord(enPassantCoord);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the piece standing on a square of a FEN piece placement.
+     * Kings and rooks count as unmoved when the castling field keeps a right for them, pawns when they are
+     * on their starting rank.
+     *
+     * @param symbol      the FEN letter of the piece, upper case for white
+     * @param squareCoord the coordinate of the piece
+     * @param castling    the castling field of the FEN
+     * @return the piece
+     * @throws IllegalArgumentException if the letter is not a piece
+     */
+    private static Piece fenPiece(final char symbol, final int squareCoord, final String castling)
+    {
+        final Color color = Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK;
+        final char shortRight = color.isWhite() ? 'K' : 'k';
+        final char longRight = color.isWhite() ? 'Q' : 'q';
+        final int homeRank = color.isWhite() ? 56 : 0;
+        switch(Character.toLowerCase(symbol))
+        {
+            case 'k' ->
+            {
+                final boolean canCastleShort = squareCoord == homeRank + 4 && castling.indexOf(shortRight) >= 0;
+                final boolean canCastleLong = squareCoord == homeRank + 4 && castling.indexOf(longRight) >= 0;
+                return PieceData.INSTANCE.getKing(color, squareCoord, canCastleShort || canCastleLong, false, canCastleShort, canCastleLong);
+            }
+            case 'q' ->
+            {
+                return PieceData.INSTANCE.getPiece(Piece.PieceType.QUEEN, color, squareCoord, false);
+            }
+            case 'r' ->
+            {
+                final boolean isUnmoved = squareCoord == homeRank + 7 && castling.indexOf(shortRight) >= 0
+                        || squareCoord == homeRank && castling.indexOf(longRight) >= 0;
+                return PieceData.INSTANCE.getPiece(Piece.PieceType.ROOK, color, squareCoord, isUnmoved);
+            }
+            case 'b' ->
+            {
+                return PieceData.INSTANCE.getPiece(Piece.PieceType.BISHOP, color, squareCoord, false);
+            }
+            case 'n' ->
+            {
+                return PieceData.INSTANCE.getPiece(Piece.PieceType.KNIGHT, color, squareCoord, false);
+            }
+            case 'p' ->
+            {
+                final boolean onStartRank = color.isWhite() ? BoardData.SECOND_RANK[squareCoord] : BoardData.SEVENTH_RANK[squareCoord];
+                return PieceData.INSTANCE.getPiece(Piece.PieceType.PAWN, color, squareCoord, onStartRank);
+            }
+            default -> throw new IllegalArgumentException("Unknown piece in FEN: " + symbol);
+        }
+    }
+
+    /**
+     * Retrieves the unmoved piece of the given type standing on a square of the starting position.
+     * Kings start able to castle to both sides.
+     *
+     * @param pieceType  the type of the piece
+     * @param color      the color of the piece
+     * @param pieceCoord the coordinate of the piece
+     * @return the canonical piece
+     */
+    private static Piece initialPiece(final Piece.PieceType pieceType, final Color color, final int pieceCoord)
+    {
+        if(pieceType.isKing())
+        {
+            return PieceData.INSTANCE.getKing(color, pieceCoord, true, true, true, true);
+        }
+        return PieceData.INSTANCE.getPiece(pieceType, color, pieceCoord, true);
+    }
+
     /**
      * Retrieves all legal moves available on the current board for both white and black players.
      * This method retrieves the legal moves for the white player and the black player, combines them into a single list,
@@ -255,9 +666,11 @@ public class Board {
      */
     public Iterable<Move> getAllLegalMoves()
     {
-        List<Move> allLegalMoves = new ArrayList<>();
-        allLegalMoves.addAll(this.whitePlayer.getLegalMoves());
-        allLegalMoves.addAll(this.blackPlayer.getLegalMoves());
+        final Collection<Move> whiteMoves = this.whitePlayer.getLegalMoves();
+        final Collection<Move> blackMoves = this.blackPlayer.getLegalMoves();
+        final List<Move> allLegalMoves = new ArrayList<>(whiteMoves.size() + blackMoves.size());
+        allLegalMoves.addAll(whiteMoves);
+        allLegalMoves.addAll(blackMoves);
         return allLegalMoves;
     }
 
@@ -266,16 +679,39 @@ public class Board {
      * This class allows setting pieces, move maker, and transition move before building the board.
      */
     public static class Builder {
-        Map<Integer, Piece> initialBoard;
+        final Piece[][] initialBoard; // The piece standing on every square, null if empty, in chunks of BitBoard.CHUNK_SHIFT
+        int ownedChunks; // bit n set if chunk n of initialBoard belongs to this builder alone and can be written in place
+        final BitBoard bitBoard; // Piece and occupancy sets, kept in step with initialBoard
         Color MoveMaker;
         Move transitionMove;
+        int enPassantCoord = -1; // Square a pawn can capture en passant onto, -1 if none
+        long zobristKey;
+        boolean hasZobristKey;
 
         /**
          * Constructs a new Builder object with an empty initial board configuration.
          */
         public Builder()
         {
-            this.initialBoard = new HashMap<>();
+            this.initialBoard = new Piece[BitBoard.CHUNKS][1 << BitBoard.CHUNK_SHIFT];
+            this.ownedChunks = BitBoard.ALL_CHUNKS;
+            this.bitBoard = new BitBoard();
+        }
+
+        /**
+         * Constructs a new Builder object starting from the pieces of an existing board.
+         * Only the squares changed by a move then have to be set, and the piece sets of the position
+         * are updated for those squares alone instead of being rebuilt. The pieces are kept in chunks of 16 squares
+         * shared with the board: only the chunks holding a changed square are copied, so the new board shares
+         * the rest with the old one.
+         *
+         * @param board the board to copy the pieces from
+         */
+        public Builder(final Board board)
+        {
+            this.initialBoard = board.boardPieces.clone();
+            this.ownedChunks = 0;
+            this.bitBoard = new BitBoard(board.bitBoard);
         }
 
         /**
@@ -286,10 +722,45 @@ public class Board {
          */
         public Builder setPiece(final Piece piece)
         {
-            this.initialBoard.put((Integer)piece.getPieceCoord(), piece);
+            removePiece(piece.getPieceCoord());
+            setSquare(piece.getPieceCoord(), piece);
+            this.bitBoard.putPiece(BitBoard.pieceCode(piece), piece.getPieceCoord());
+            return this;
+        }
+
+        /**
+         * Removes the piece standing on a square from the initial board configuration.
+         *
+         * @param squareCoord the coordinate of the square to empty
+         * @return the current Builder object for method chaining
+         */
+        public Builder removePiece(final int squareCoord)
+        {
+            if(pieceAt(this.initialBoard, squareCoord) != null)
+            {
+                this.bitBoard.removePiece(squareCoord);
+                setSquare(squareCoord, null);
+            }
             return this;
         }
 
+        /**
+         * Writes the piece standing on a square, first copying its chunk if it is shared with a board.
+         *
+         * @param squareCoord the coordinate of the square
+         * @param piece       the piece, null for an empty square
+         */
+        private void setSquare(final int squareCoord, final Piece piece)
+        {
+            final int chunk = squareCoord >>> BitBoard.CHUNK_SHIFT;
+            if((this.ownedChunks & (1 << chunk)) == 0)
+            {
+                this.initialBoard[chunk] = this.initialBoard[chunk].clone();
+                this.ownedChunks |= 1 << chunk;
+            }
+            this.initialBoard[chunk][squareCoord & BitBoard.CHUNK_MASK] = piece;
+        }
+
         /**
          * Sets the color of the player to make the next move.
          *
@@ -320,6 +791,28 @@ public class Board {
             this.transitionMove = transitionMove;
         }
 
+        /**
+         * Sets the square the side to move can capture en passant onto, after an enemy pawn jumped over it.
+         *
+         * @param enPassantCoord the square the jumping pawn passed, -1 if none
+         */
+        public void setEnPassantCoord(final int enPassantCoord)
+        {
+            this.enPassantCoord = enPassantCoord;
+        }
+
+        /**
+         * Sets the Zobrist key of the board being built, when it is already known from the previous position.
+         * Without it, the key is calculated from the pieces when the board is built.
+         *
+         * @param zobristKey the key of the board
+         */
+        public void setZobristKey(final long zobristKey)
+        {
+            this.zobristKey = zobristKey;
+            this.hasZobristKey = true;
+        }
+
 
     }
 }
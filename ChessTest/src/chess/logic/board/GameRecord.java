@@ -0,0 +1,143 @@
+package chess.logic.board;
+
+import java.util.Arrays;
+
+/**
+ * A compact record of the moves of a game.
+ * Moves are kept as move codes, which hold the squares, the moved and captured pieces and the promotion
+ * but no reference to a board, so the record takes four bytes per ply and keeps no position alive.
+ * The game can be replayed from its starting board to rebuild any position.
+ */
+public final class GameRecord {
+    private int[] moves; // The move codes, see MoveCode
+    private int size; // Number of moves in the record
+
+    /**
+     * Constructs an empty game record.
+     */
+    public GameRecord()
+    {
+        this.moves = new int[64];
+        this.size = 0;
+    }
+
+    /**
+     * Appends a move code to the record.
+     *
+     * @param move the move code
+     */
+    public void add(final int move)
+    {
+        if(this.size == this.moves.length)
+        {
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * Appends a move to the record, keeping only its code.
+     *
+     * @param move the move
+     */
+    public void add(final Move move)
+    {
+        add(MoveCode.encode(move));
+    }
+
+    /**
+     * Retrieves the move code of a ply.
+     *
+     * @param index the index of the ply, 0 for the first move of the game
+     * @return the move code
+     */
+    public int get(final int index)
+    {
+        if(index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Ply " + index + " out of " + this.size);
+        }
+        return this.moves[index];
+    }
+
+    /**
+     * Retrieves the last move code of the record.
+     *
+     * @return the move code, MoveCode.NONE if the record is empty
+     */
+    public int last()
+    {
+        return this.size == 0 ? MoveCode.NONE : this.moves[this.size - 1];
+    }
+
+    /**
+     * Removes the move code of a ply, shifting the later ones back.
+     *
+     * @param index the index of the ply
+     * @return the removed move code
+     */
+    public int remove(final int index)
+    {
+        final int move = get(index);
+        System.arraycopy(this.moves, index + 1, this.moves, index, this.size - index - 1);
+        this.size--;
+        return move;
+    }
+
+    /**
+     * Retrieves the number of moves in the record.
+     *
+     * @return the number of plies
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Checks if the record holds no move.
+     *
+     * @return true if the record is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every move from the record.
+     */
+    public void clear()
+    {
+        this.size = 0;
+    }
+
+    /**
+     * Replays every move of the record from a starting board.
+     *
+     * @param start the board the game started from
+     * @return the board after the last move
+     */
+    public Board replay(final Board start)
+    {
+        return replay(start, this.size);
+    }
+
+    /**
+     * Replays the first moves of the record from a starting board.
+     * Every move code is turned into a move of the board it is played on, then made.
+     *
+     * @param start the board the game started from
+     * @param plies the number of moves to replay
+     * @return the board after the given number of moves
+     */
+    public Board replay(final Board start, final int plies)
+    {
+        Board board = start;
+        for(int index = 0; index < plies; ++index)
+        {
+            board = MoveCode.toMove(board, get(index)).make();
+        }
+        return board;
+    }
+}
@@ -0,0 +1,239 @@
+package chess.logic.board;
+
+import chess.Color;
+import chess.logic.pieces.Piece;
+
+/**
+ * The `LegalMoveFilter` class tells pseudo-legal moves that leave the own king attacked from legal ones
+ * without making them. When it is created for a position, it works out once which enemy pieces give check,
+ * which squares a non-king move must land on to answer the check, and which own pieces are pinned to the king.
+ * A move is then classified from these masks alone; only king moves need a square attack test,
+ * and en passant captures, which take a pawn from another square than the destination, an occupancy test.
+ */
+public final class LegalMoveFilter {
+    private final BitBoard bitBoard; // The position the moves are made on
+    private final Color color; // The color of the moving side
+    private final int kingCoord; // The square of the king of the moving side
+    private final long checkers; // Enemy pieces attacking the king
+    private final long checkMask; // Squares a non-king move has to land on, every square when not in check
+    private final long pinned; // Own pieces standing alone between the king and an enemy slider
+
+    /**
+     * Constructs the filter of the moves of one color in a position.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the moving side
+     */
+    public LegalMoveFilter(final BitBoard bitBoard, final Color color)
+    {
+        this.bitBoard = bitBoard;
+        this.color = color;
+        this.kingCoord = BitBoard.firstSquare(bitBoard.getPieces(color, Piece.PieceType.KING));
+        final Color enemy = color.isWhite() ? Color.BLACK : Color.WHITE;
+        this.checkers = bitBoard.attackersTo(this.kingCoord, enemy, bitBoard.occupancy);
+        this.checkMask = calcCheckMask(this.kingCoord, this.checkers);
+        this.pinned = calcPinned(bitBoard, this.kingCoord, color, enemy);
+    }
+
+    /**
+     * Calculates the squares a non-king move has to land on.
+     * With no checker, every square; with one, the checker itself or a square between it and the king;
+     * with two, no square at all, since only the king can move out of a double check.
+     *
+     * @param kingCoord the square of the king
+     * @param checkers  the enemy pieces attacking the king
+     * @return the set of allowed destinations for non-king moves
+     */
+    private static long calcCheckMask(final int kingCoord, final long checkers)
+    {
+        if(checkers == 0)
+        {
+            return -1L;
+        }
+        if(Long.bitCount(checkers) > 1)
+        {
+            return 0L;
+        }
+        return checkers | BoardData.BETWEEN[kingCoord][BitBoard.firstSquare(checkers)];
+    }
+
+    /**
+     * Calculates the own pieces pinned to the king.
+     * Enemy sliders are first looked up as if only enemy pieces stood on the board;
+     * a slider with exactly one piece between it and the king pins that piece if it is an own one.
+     *
+     * @param bitBoard  the position
+     * @param kingCoord the square of the king
+     * @param color     the color of the king
+     * @param enemy     the color of the opponent
+     * @return the set of pinned own pieces
+     */
+    private static long calcPinned(final BitBoard bitBoard, final int kingCoord, final Color color, final Color enemy)
+    {
+        final long enemyOccupancy = bitBoard.getOccupancy(enemy);
+        final long enemyQueens = bitBoard.getPieces(enemy, Piece.PieceType.QUEEN);
+        long snipers = Magic.rookAttacks(kingCoord, enemyOccupancy) & (bitBoard.getPieces(enemy, Piece.PieceType.ROOK) | enemyQueens);
+        snipers |= Magic.bishopAttacks(kingCoord, enemyOccupancy) & (bitBoard.getPieces(enemy, Piece.PieceType.BISHOP) | enemyQueens);
+        long pinned = 0L;
+        while(snipers != 0)
+        {
+            final long blockers = BoardData.BETWEEN[kingCoord][BitBoard.firstSquare(snipers)] & bitBoard.occupancy;
+            if(Long.bitCount(blockers) == 1)
+            {
+                pinned |= blockers & bitBoard.getOccupancy(color);
+            }
+            snipers &= snipers - 1;
+        }
+        return pinned;
+    }
+
+    /**
+     * Checks if a pseudo-legal move leaves the own king safe.
+     *
+     * @param move the code of a pseudo-legal move of the filtered color
+     * @return true if the move is legal, false otherwise
+     */
+    public boolean isLegal(final int move)
+    {
+        if(MoveCode.isEnPassant(move))
+        {
+            return isLegalEnPassant(MoveCode.from(move), MoveCode.to(move));
+        }
+        if(MoveCode.isCastle(move))
+        {
+            return isLegalCastle(MoveCode.from(move), MoveCode.to(move));
+        }
+        return isLegal(MoveCode.from(move), MoveCode.to(move));
+    }
+
+    /**
+     * Checks if a pseudo-legal move object leaves the own king safe.
+     *
+     * @param move a pseudo-legal move of the filtered color
+     * @return true if the move is legal, false otherwise
+     */
+    public boolean isLegal(final Move move)
+    {
+        return isLegal(MoveCode.encode(move));
+    }
+
+    /**
+     * Checks if moving the piece on one square to another leaves the own king safe.
+     * The king may go to any square the opponent does not attack once the king has left its square;
+     * any other piece has to answer a check and, when pinned, stay on the line through the king and its pinner.
+     *
+     * @param from the origin square
+     * @param to   the destination square
+     * @return true if the move is legal, false otherwise
+     */
+    boolean isLegal(final int from, final int to)
+    {
+        final long toMask = BitBoard.squareMask(to);
+        if(from == this.kingCoord)
+        {
+            final Color enemy = this.color.isWhite() ? Color.BLACK : Color.WHITE;
+            return this.bitBoard.attackersTo(to, enemy, this.bitBoard.occupancy ^ BitBoard.squareMask(from)) == 0;
+        }
+        if((this.checkMask & toMask) == 0)
+        {
+            return false;
+        }
+        return (this.pinned & BitBoard.squareMask(from)) == 0 || (BoardData.LINE[this.kingCoord][from] & toMask) != 0;
+    }
+
+    /**
+     * Checks if a pawn capturing en passant leaves the own king safe.
+     * Two pawns leave the rank of the capture at once, which may uncover a rook along it, and the captured pawn
+     * may be the checker itself, so the king is tested against the enemy pieces left on the board after the capture.
+     *
+     * @param from the square of the capturing pawn
+     * @param to   the en passant square
+     * @return true if the capture is legal, false otherwise
+     */
+    boolean isLegalEnPassant(final int from, final int to)
+    {
+        final long capturedMask = BitBoard.squareMask((from & ~7) | (to & 7));
+        final long occupied = (this.bitBoard.occupancy ^ BitBoard.squareMask(from) ^ capturedMask) | BitBoard.squareMask(to);
+        final Color enemy = this.color.isWhite() ? Color.BLACK : Color.WHITE;
+        return (this.bitBoard.attackersTo(this.kingCoord, enemy, occupied) & ~capturedMask) == 0;
+    }
+
+    /**
+     * Checks if castling leaves the own king safe.
+     * The king may not castle out of check, nor cross or land on a square the opponent attacks.
+     *
+     * @param from the square of the king
+     * @param to   the square the king lands on
+     * @return true if castling is legal, false otherwise
+     */
+    boolean isLegalCastle(final int from, final int to)
+    {
+        if(this.checkers != 0)
+        {
+            return false;
+        }
+        final Color enemy = this.color.isWhite() ? Color.BLACK : Color.WHITE;
+        return !this.bitBoard.isSquareAttacked((from + to) / 2, enemy) && !this.bitBoard.isSquareAttacked(to, enemy);
+    }
+
+    /**
+     * Keeps the targets of the piece on one square that it can move to without leaving the own king attacked.
+     * En passant captures and castling are not targets, they are tested with isLegalEnPassant() and isLegalCastle().
+     * A non-king piece is restricted with the check mask and its pin line in one step;
+     * only the king has its targets tested one at a time.
+     *
+     * @param from    the square of the piece
+     * @param targets the pseudo-legal destinations of the piece
+     * @return the legal destinations
+     */
+    long legalTargets(final int from, final long targets)
+    {
+        if(from != this.kingCoord)
+        {
+            final long pinMask = (this.pinned & BitBoard.squareMask(from)) == 0 ? -1L : BoardData.LINE[this.kingCoord][from];
+            return targets & this.checkMask & pinMask;
+        }
+        long legal = 0L;
+        long remaining = targets;
+        while(remaining != 0)
+        {
+            final int to = BitBoard.firstSquare(remaining);
+            if(isLegal(from, to))
+            {
+                legal |= BitBoard.squareMask(to);
+            }
+            remaining &= remaining - 1;
+        }
+        return legal;
+    }
+
+    /**
+     * Checks if the king of the filtered color is in check.
+     *
+     * @return true if at least one enemy piece attacks the king, false otherwise
+     */
+    public boolean isInCheck()
+    {
+        return this.checkers != 0;
+    }
+
+    /**
+     * Retrieves the enemy pieces giving check.
+     *
+     * @return the set of checkers
+     */
+    public long getCheckers()
+    {
+        return this.checkers;
+    }
+
+    /**
+     * Retrieves the own pieces pinned to the king.
+     *
+     * @return the set of pinned pieces
+     */
+    public long getPinned()
+    {
+        return this.pinned;
+    }
+}
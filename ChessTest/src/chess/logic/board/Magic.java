@@ -0,0 +1,176 @@
+package chess.logic.board;
+
+/**
+ * The `Magic` class looks up the attacks of sliding pieces with magic bitboards.
+ * For every square, the occupied squares that can block a rook or bishop are multiplied by a magic number;
+ * the top bits of the product index a table holding the attacks for that occupancy,
+ * so an attack set costs one mask, one multiplication, one shift and one table read.
+ * The magic numbers were found once with a search over random sparse numbers. The tables are filled
+ * from BoardData.slidingAttacks() when the class is loaded, and every entry is checked against it.
+ */
+public final class Magic {
+    private static final long[] ROOK_MAGICS = {
+            0x0080021620804001L, 0x0040001000200041L, 0x0200102200088040L, 0x4080040800821000L,
+            0x2200020004200810L, 0x4B00020C000D0008L, 0x01000C4183000600L, 0x2080010000402C80L,
+            0x8002800826864000L, 0x0410802000884000L, 0x0C01004010200100L, 0xC802001200084023L,
+            0x0202000A00102004L, 0x4010800200040080L, 0x8804000208048110L, 0x0C40800080004100L,
+            0xA2018880024004A0L, 0x0100908020004000L, 0x1010410010200101L, 0x2010008008008010L,
+            0x0A08010004110008L, 0x0802080104209040L, 0x0080040090010802L, 0x0280020000841069L,
+            0x080C400080248000L, 0x2048850100224008L, 0x00200800C0300040L, 0x11400D0100201000L,
+            0x0208040080800800L, 0x0060040080800200L, 0x0420010080800200L, 0x9008010200004084L,
+            0x0080002000400040L, 0x0420100040400020L, 0x0190130045002000L, 0x4010004402400800L,
+            0x0104080101001004L, 0x0000020080800400L, 0x0600420804008110L, 0x692C004482001524L,
+            0x0020803040008001L, 0x0020084030004000L, 0x0480200104450010L, 0x0190100025010008L,
+            0x0401008801110004L, 0x0809001400090046L, 0x2004889001040002L, 0x000803A24C020003L,
+            0x9000400080002080L, 0x0200401000200040L, 0x8299A00890008480L, 0x0224080010008480L,
+            0x0028002900102500L, 0x3101844020100801L, 0x1001000E00040300L, 0x0080110880440200L,
+            0x8100944080052101L, 0x0C00820040210012L, 0x0A20122000C10901L, 0x0620210004100109L,
+            0x0002002008041002L, 0x0002000104100802L, 0x8420500208011084L, 0x0001000020420081L
+    };
+    private static final long[] BISHOP_MAGICS = {
+            0x8049010808004080L, 0x20A09C0410404004L, 0x0010011200200000L, 0x00020A020A002000L,
+            0x0841104048189088L, 0x0051104210402001L, 0x02010090846004C1L, 0x2100220100A01080L,
+            0x0020100202440400L, 0x0C00202204010034L, 0x0000080808508200L, 0x0020022082028011L,
+            0xC000040420008010L, 0x1204382A30100020L, 0x0002850801900800L, 0x2880042212104440L,
+            0xA80810C090019200L, 0x0004C0208C2C0040L, 0x0008823014004088L, 0x0208004422022000L,
+            0x4242889400A00618L, 0x400A000109012002L, 0x0001280084100222L, 0x0440400890441040L,
+            0x0020083110108108L, 0x0408840022440800L, 0x8920900108002020L, 0x8044010050100408L,
+            0x0991004104004051L, 0x0008020006411880L, 0x0501220204008402L, 0x8200920004210400L,
+            0x82A1044001111080L, 0x0101040384101000L, 0x0022011000010048L, 0x2011020082080080L,
+            0x0000501040040040L, 0x0210010201404040L, 0x0010040041A08208L, 0x8088024148210300L,
+            0x0000884808204082L, 0xC824011403041001L, 0x0002008024002080L, 0xF4D0011144019800L,
+            0x0200210122000400L, 0x8102601400200501L, 0x0004080801280442L, 0x0C0242004112D200L,
+            0x1014240404044000L, 0x0103090082200020L, 0x0C0001041104004CL, 0x4080805084041020L,
+            0x080A102044240002L, 0x0000401102448484L, 0x100BA00114010000L, 0xA410022204242600L,
+            0x182A010882100200L, 0x1020004202100200L, 0x90011C0034020800L, 0x20E1000000208800L,
+            0x2000004090A02204L, 0x0001000920A80880L, 0x1200206089A10100L, 0x0110541004420023L
+    };
+
+    private static final long[] ROOK_MASKS = initMasks(BoardData.ROOK_DIRECTIONS);
+    private static final long[] BISHOP_MASKS = initMasks(BoardData.BISHOP_DIRECTIONS);
+    private static final int[] ROOK_SHIFTS = initShifts(ROOK_MASKS);
+    private static final int[] BISHOP_SHIFTS = initShifts(BISHOP_MASKS);
+    private static final long[][] ROOK_ATTACKS = initAttacks(BoardData.ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS);
+    private static final long[][] BISHOP_ATTACKS = initAttacks(BoardData.BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS);
+
+    /**
+     * Private constructor to prevent instantiation of the `Magic` class.
+     */
+    private Magic()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Computes the squares a rook reaches, given the occupied squares.
+     *
+     * @param from      the square of the rook
+     * @param occupancy the occupied squares
+     * @return the reached squares, including the first blocker in every direction
+     */
+    public static long rookAttacks(final int from, final long occupancy)
+    {
+        return ROOK_ATTACKS[from][(int) (((occupancy & ROOK_MASKS[from]) * ROOK_MAGICS[from]) >>> ROOK_SHIFTS[from])];
+    }
+
+    /**
+     * Computes the squares a bishop reaches, given the occupied squares.
+     *
+     * @param from      the square of the bishop
+     * @param occupancy the occupied squares
+     * @return the reached squares, including the first blocker in every direction
+     */
+    public static long bishopAttacks(final int from, final long occupancy)
+    {
+        return BISHOP_ATTACKS[from][(int) (((occupancy & BISHOP_MASKS[from]) * BISHOP_MAGICS[from]) >>> BISHOP_SHIFTS[from])];
+    }
+
+    /**
+     * Computes the squares a queen reaches, given the occupied squares.
+     *
+     * @param from      the square of the queen
+     * @param occupancy the occupied squares
+     * @return the reached squares, including the first blocker in every direction
+     */
+    public static long queenAttacks(final int from, final long occupancy)
+    {
+        return rookAttacks(from, occupancy) | bishopAttacks(from, occupancy);
+    }
+
+    /**
+     * Initializes the blocker masks of every square: the rays of the piece without their last square,
+     * since a piece on the edge of the board never blocks anything behind it.
+     *
+     * @param directions the directions of the piece, as indices into BoardData.DIRECTION_OFFSETS
+     * @return the blocker mask of every square
+     */
+    private static long[] initMasks(final int[] directions)
+    {
+        final long[] masks = new long[64];
+        for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+        {
+            for(final int direction : directions)
+            {
+                final long ray = BoardData.RAYS[direction][squareCoord];
+                if(ray != 0)
+                {
+                    final long edge = direction >= 4 ? Long.highestOneBit(ray) : Long.lowestOneBit(ray);
+                    masks[squareCoord] |= ray & ~edge;
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Initializes the index shift of every square, keeping as many bits of the product as the mask has squares.
+     *
+     * @param masks the blocker masks of the piece
+     * @return the shift of every square
+     */
+    private static int[] initShifts(final long[] masks)
+    {
+        final int[] shifts = new int[64];
+        for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+        {
+            shifts[squareCoord] = 64 - Long.bitCount(masks[squareCoord]);
+        }
+        return shifts;
+    }
+
+    /**
+     * Fills the attack tables of a piece by walking the rays for every subset of the blocker mask of every square.
+     *
+     * @param directions the directions of the piece, as indices into BoardData.DIRECTION_OFFSETS
+     * @param masks      the blocker masks of the piece
+     * @param magics     the magic numbers of the piece
+     * @param shifts     the index shifts of the piece
+     * @return the attack table of every square
+     * @throws IllegalStateException if two blocker subsets needing different attacks share a slot
+     */
+    private static long[][] initAttacks(final int[] directions, final long[] masks, final long[] magics, final int[] shifts)
+    {
+        final long[][] attacks = new long[64][];
+        for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+        {
+            final long mask = masks[squareCoord];
+            final long[] table = new long[1 << (64 - shifts[squareCoord])];
+            final boolean[] filled = new boolean[table.length];
+            long subset = 0L;
+            do
+            {
+                final int slot = (int) ((subset * magics[squareCoord]) >>> shifts[squareCoord]);
+                final long reached = BoardData.slidingAttacks(directions, squareCoord, subset);
+                if(filled[slot] && table[slot] != reached)
+                {
+                    throw new IllegalStateException("Magic number collision on square " + squareCoord);
+                }
+                filled[slot] = true;
+                table[slot] = reached;
+                subset = (subset - mask) & mask;
+            } while(subset != 0);
+            attacks[squareCoord] = table;
+        }
+        return attacks;
+    }
+}
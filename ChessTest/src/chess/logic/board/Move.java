@@ -189,27 +189,20 @@ public abstract class Move {
     /**
      * Applies the move to the board and returns the resulting board.
      * This method creates a new board based on the current board state
-     * and the move being made, updating the pieces accordingly.
+     * and the move being made: the pieces are copied in one go, then the origin square is emptied
+     * and the moved piece replaces whatever stood on the destination square.
+     * The Zobrist key of the new board is derived from the key of the current one.
      *
      * @return The board after applying the move.
      */
     public Board make()
     {
-        final Board.Builder builder = new Board.Builder();
-        for(final Piece piece : this.board.getCurrentPlayer().getActivePieces())
-        {
-            if(!this.movedPiece.equals(piece))
-            {
-                builder.setPiece(piece);
-            }
-        }
-        for(final Piece piece : this.board.getCurrentPlayer().getEnemy().getActivePieces())
-        {
-            builder.setPiece(piece);
-        }
+        final Board.Builder builder = new Board.Builder(this.board);
+        builder.removePiece(this.movedPiece.getPieceCoord());
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.getCurrentPlayer().getEnemy().getColor());
         builder.setTransitionMove(this);
+        builder.setZobristKey(Zobrist.keyAfter(this.board.getBitBoard(), MoveCode.encode(this)));
         return builder.build();
     }
 
@@ -261,22 +254,12 @@ public abstract class Move {
         @Override
         public Board make()
         {
-            final Board pawnMovedBoard = this.decoratedMove.make();
-            final Board.Builder builder = new Board.Builder();
-            for(final Piece piece : pawnMovedBoard.getCurrentPlayer().getActivePieces())
-            {
-                if(!(this.promotedPawn.equals(piece)))
-                {
-                    builder.setPiece(piece);
-                }
-            }
-            for(final Piece piece : pawnMovedBoard.getCurrentPlayer().getEnemy().getActivePieces())
-            {
-                builder.setPiece(piece);
-            }
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(this.promotedPawn.getPieceCoord());
             builder.setPiece(this.promotionPiece.movePiece(this));
-            builder.setMoveMaker(pawnMovedBoard.getCurrentPlayer().getColor());
+            builder.setMoveMaker(this.board.getCurrentPlayer().getEnemy().getColor());
             builder.setTransitionMove(this);
+            builder.setZobristKey(Zobrist.keyAfter(this.board.getBitBoard(), MoveCode.encode(this)));
             return builder.build();
         }
 
@@ -454,22 +437,14 @@ public abstract class Move {
         @Override
         public Board make()
         {
-            final Board.Builder builder = new Board.Builder();
-            for(final Piece piece : this.board.getCurrentPlayer().getActivePieces())
-            {
-                if(!this.movedPiece.equals(piece))
-                {
-                    builder.setPiece(piece);
-                }
-            }
-            for(final Piece piece : this.board.getCurrentPlayer().getEnemy().getActivePieces())
-            {
-                builder.setPiece(piece);
-            }
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(this.movedPiece.getPieceCoord());
             final Pawn movedPawn = (Pawn) this.movedPiece.movePiece(this);
             builder.setPiece(movedPawn);
             builder.setMoveMaker(this.board.getCurrentPlayer().getEnemy().getColor());
             builder.setTransitionMove(this);
+            builder.setEnPassantCoord((this.movedPiece.getPieceCoord() + this.destinationCoord) / 2);
+            builder.setZobristKey(Zobrist.keyAfter(this.board.getBitBoard(), MoveCode.encode(this)));
             return builder.build();
         }
 
@@ -480,6 +455,117 @@ public abstract class Move {
         }
     }
 
+    /**
+     * Represents a pawn capturing en passant: the pawn lands on the square the enemy pawn jumped over
+     * and the enemy pawn is taken from the square beside it.
+     */
+    public static final class EnPassantMove extends AttackMove {
+        /**
+         * Constructs an EnPassantMove object with the specified parameters.
+         *
+         * @param board            The board on which the move is made.
+         * @param movedPiece       The pawn making the capture.
+         * @param attackedPiece    The pawn captured en passant.
+         * @param destinationCoord The square the capturing pawn lands on.
+         */
+        public EnPassantMove(Board board, Piece movedPiece, Piece attackedPiece, int destinationCoord)
+        {
+            super(board, movedPiece, attackedPiece, destinationCoord);
+        }
+
+        @Override
+        public Board make()
+        {
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(this.movedPiece.getPieceCoord());
+            builder.removePiece(this.getAttackedPiece().getPieceCoord());
+            builder.setPiece(this.movedPiece.movePiece(this));
+            builder.setMoveMaker(this.board.getCurrentPlayer().getEnemy().getColor());
+            builder.setTransitionMove(this);
+            builder.setZobristKey(Zobrist.keyAfter(this.board.getBitBoard(), MoveCode.encode(this)));
+            return builder.build();
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            return this == other || other instanceof EnPassantMove && super.equals(other);
+        }
+
+        @Override
+        public String toString()
+        {
+            return BoardData.getPositionAtCoord(this.movedPiece.getPieceCoord()).charAt(0) + "x" + BoardData.getPositionAtCoord(this.destinationCoord);
+        }
+    }
+
+    /**
+     * Represents a king castling: the king moves two squares towards a rook, and the rook jumps over it
+     * to the square the king passed.
+     */
+    public static final class CastleMove extends Move {
+        private final Piece castleRook; // The rook moving along with the king
+        private final int castleRookDestination; // The square the rook lands on
+
+        /**
+         * Constructs a CastleMove object with the specified parameters.
+         *
+         * @param board                 The board on which the move is made.
+         * @param movedPiece            The castling king.
+         * @param destinationCoord      The square the king lands on.
+         * @param castleRook            The rook moving along with the king.
+         * @param castleRookDestination The square the rook lands on.
+         */
+        public CastleMove(Board board, Piece movedPiece, int destinationCoord, Piece castleRook, int castleRookDestination)
+        {
+            super(board, movedPiece, destinationCoord);
+            this.castleRook = castleRook;
+            this.castleRookDestination = castleRookDestination;
+        }
+
+        @Override
+        public boolean isCastle()
+        {
+            return true;
+        }
+
+        /**
+         * Gets the rook moving along with the king.
+         *
+         * @return The castling rook.
+         */
+        public Piece getCastleRook()
+        {
+            return this.castleRook;
+        }
+
+        @Override
+        public Board make()
+        {
+            final Board.Builder builder = new Board.Builder(this.board);
+            builder.removePiece(this.movedPiece.getPieceCoord());
+            builder.removePiece(this.castleRook.getPieceCoord());
+            builder.setPiece(this.movedPiece.movePiece(this));
+            builder.setPiece(PieceData.INSTANCE.getPiece(Piece.PieceType.ROOK, this.castleRook.getPieceColor(), this.castleRookDestination, false));
+            builder.setMoveMaker(this.board.getCurrentPlayer().getEnemy().getColor());
+            builder.setTransitionMove(this);
+            builder.setZobristKey(Zobrist.keyAfter(this.board.getBitBoard(), MoveCode.encode(this)));
+            return builder.build();
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            return this == other || other instanceof CastleMove && super.equals(other);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.destinationCoord > this.movedPiece.getPieceCoord() ? "O-O" : "O-O-O";
+        }
+    }
+
     /**
      * Represents a move made by a piece to attack an opponent's piece on the board.
      */
@@ -563,19 +649,18 @@ public abstract class Move {
 
         /**
          * Creates moves based on the current board position and the coordinates of the source and destination squares.
+         * The moves are looked up in the move index of the current player first, then in the opponent's.
          */
 
         public static class MoveCreator {
             public static Move moveCreate(final Board board, final int currentCoord, final int destinationCoord)
             {
-                for(final Move move : board.getAllLegalMoves())
+                final Move move = board.getCurrentPlayer().findMove(currentCoord, destinationCoord);
+                if(move != INVALID_MOVE)
                 {
-                    if(move.getCurrentCoord() == currentCoord && move.getDestinationCoord() == destinationCoord)
-                    {
-                        return move;
-                    }
+                    return move;
                 }
-                return INVALID_MOVE;
+                return board.getCurrentPlayer().getEnemy().findMove(currentCoord, destinationCoord);
             }
         }
     }
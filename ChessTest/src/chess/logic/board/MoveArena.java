@@ -0,0 +1,71 @@
+package chess.logic.board;
+
+import java.util.Arrays;
+
+/**
+ * A per-thread stack of reusable move lists.
+ * Every thread gets its own arena, so a search can take one list per ply with acquire() and give it back
+ * with release() in reverse order, and generation never allocates once the stack has grown to the search depth.
+ * Lists must not be kept after they are released, since the next acquire() hands the same list out again.
+ */
+public final class MoveArena {
+    private static final ThreadLocal<MoveArena> ARENA = ThreadLocal.withInitial(MoveArena::new);
+
+    private MoveList[] lists; // The lists, created the first time their depth is reached
+    private int depth; // Number of lists currently handed out
+
+    /**
+     * Constructs an empty arena.
+     */
+    private MoveArena()
+    {
+        this.lists = new MoveList[16];
+        this.depth = 0;
+    }
+
+    /**
+     * Retrieves the arena of the calling thread.
+     *
+     * @return the arena
+     */
+    public static MoveArena current()
+    {
+        return ARENA.get();
+    }
+
+    /**
+     * Hands out the next free list of the stack, emptied.
+     *
+     * @return a move list owned by the caller until release()
+     */
+    public MoveList acquire()
+    {
+        if(this.depth == this.lists.length)
+        {
+            this.lists = Arrays.copyOf(this.lists, this.lists.length * 2);
+        }
+        MoveList moves = this.lists[this.depth];
+        if(moves == null)
+        {
+            moves = new MoveList();
+            this.lists[this.depth] = moves;
+        }
+        this.depth++;
+        moves.clear();
+        return moves;
+    }
+
+    /**
+     * Gives back the list handed out last.
+     *
+     * @throws IllegalStateException if no list is handed out
+     */
+    public void release()
+    {
+        if(this.depth == 0)
+        {
+            throw new IllegalStateException("No move list to release");
+        }
+        this.depth--;
+    }
+}
@@ -0,0 +1,343 @@
+package chess.logic.board;
+
+import chess.logic.pieces.Piece;
+import chess.logic.pieces.PieceData;
+
+/**
+ * The `MoveCode` class encodes moves as plain ints so they can be generated and stored without allocating.
+ * Layout of a move code, from the lowest bit:
+ * <pre>
+ *  0- 5  origin square
+ *  6-11  destination square
+ * 12-15  code of the moved piece (see BitBoard.pieceCode)
+ * 16-19  code of the captured piece plus one, 0 if nothing is captured
+ * 20-22  ordinal of the promotion piece type plus one, 0 if the move is not a promotion
+ * 23-25  flags (pawn jump, en passant, castle)
+ * </pre>
+ * Move objects are only created from a code when the GUI or the move log needs one.
+ */
+public final class MoveCode {
+    /**
+     * A code that never stands for a move.
+     */
+    public static final int NONE = 0;
+
+    public static final int PAWN_JUMP = 1 << 23;
+    public static final int EN_PASSANT = 1 << 24;
+    public static final int CASTLE = 1 << 25;
+
+    private static final int CAPTURE_MASK = 0xF << 16;
+    private static final int PROMOTION_MASK = 0x7 << 20;
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+
+    /**
+     * Private constructor to prevent instantiation of the `MoveCode` class.
+     */
+    private MoveCode()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Encodes a move.
+     *
+     * @param from          the origin square
+     * @param to            the destination square
+     * @param movedCode     the code of the moved piece
+     * @param capturedCode  the code of the captured piece, BitBoard.EMPTY if none
+     * @param promotionType the type the pawn is promoted to, null if the move is not a promotion
+     * @param flags         a combination of PAWN_JUMP, EN_PASSANT and CASTLE
+     * @return the move code
+     */
+    public static int encode(final int from, final int to, final int movedCode, final int capturedCode, final Piece.PieceType promotionType, final int flags)
+    {
+        final int promotion = promotionType == null ? 0 : promotionType.ordinal() + 1;
+        return from | (to << 6) | (movedCode << 12) | ((capturedCode + 1) << 16) | (promotion << 20) | flags;
+    }
+
+    /**
+     * Encodes a move without promotion or special flags.
+     *
+     * @param from         the origin square
+     * @param to           the destination square
+     * @param movedCode    the code of the moved piece
+     * @param capturedCode the code of the captured piece, BitBoard.EMPTY if none
+     * @return the move code
+     */
+    public static int encode(final int from, final int to, final int movedCode, final int capturedCode)
+    {
+        return from | (to << 6) | (movedCode << 12) | ((capturedCode + 1) << 16);
+    }
+
+    /**
+     * Encodes a move object, reading the captured piece from the board the move was generated on.
+     *
+     * @param move the move
+     * @return the move code
+     */
+    public static int encode(final Move move)
+    {
+        final int from = move.getCurrentCoord();
+        final int to = move.getDestinationCoord();
+        final Piece.PieceType promotionType = move instanceof Move.PawnPromotion promotion ? promotion.promotionPiece.getPieceType() : null;
+        final int flags = move instanceof Move.PawnJump ? PAWN_JUMP : move instanceof Move.EnPassantMove ? EN_PASSANT : move.isCastle() ? CASTLE : 0;
+        final int capturedCode = move.getBoard().getBitBoard().getPieceCode(flags == EN_PASSANT ? (from & ~7) | (to & 7) : to);
+        return encode(from, to, BitBoard.pieceCode(move.getMovedPiece()), capturedCode, promotionType, flags);
+    }
+
+    /**
+     * Retrieves the origin square of a move.
+     *
+     * @param move the move code
+     * @return the origin square
+     */
+    public static int from(final int move)
+    {
+        return move & 0x3F;
+    }
+
+    /**
+     * Retrieves the destination square of a move.
+     *
+     * @param move the move code
+     * @return the destination square
+     */
+    public static int to(final int move)
+    {
+        return (move >>> 6) & 0x3F;
+    }
+
+    /**
+     * Retrieves the code of the moved piece.
+     *
+     * @param move the move code
+     * @return the piece code
+     */
+    public static int movedPiece(final int move)
+    {
+        return (move >>> 12) & 0xF;
+    }
+
+    /**
+     * Retrieves the code of the captured piece.
+     *
+     * @param move the move code
+     * @return the piece code, BitBoard.EMPTY if nothing is captured
+     */
+    public static int capturedPiece(final int move)
+    {
+        return ((move >>> 16) & 0xF) - 1;
+    }
+
+    /**
+     * Checks if a move captures a piece.
+     *
+     * @param move the move code
+     * @return true if the move is a capture, false otherwise
+     */
+    public static boolean isCapture(final int move)
+    {
+        return (move & CAPTURE_MASK) != 0;
+    }
+
+    /**
+     * Checks if a move promotes a pawn.
+     *
+     * @param move the move code
+     * @return true if the move is a promotion, false otherwise
+     */
+    public static boolean isPromotion(final int move)
+    {
+        return (move & PROMOTION_MASK) != 0;
+    }
+
+    /**
+     * Retrieves the type a pawn is promoted to.
+     *
+     * @param move the move code
+     * @return the promotion type, null if the move is not a promotion
+     */
+    public static Piece.PieceType promotionType(final int move)
+    {
+        final int promotion = (move >>> 20) & 0x7;
+        return promotion == 0 ? null : PIECE_TYPES[promotion - 1];
+    }
+
+    /**
+     * Retrieves the code of the piece standing on the destination square after the move.
+     *
+     * @param move the move code
+     * @return the moved piece code, or the promotion piece code for promotions
+     */
+    public static int placedPiece(final int move)
+    {
+        final int movedCode = movedPiece(move);
+        final int promotion = (move >>> 20) & 0x7;
+        return promotion == 0 ? movedCode : movedCode - movedCode % 6 + promotion - 1;
+    }
+
+    /**
+     * Checks if a move is a two-square pawn jump.
+     *
+     * @param move the move code
+     * @return true if the move is a pawn jump, false otherwise
+     */
+    public static boolean isPawnJump(final int move)
+    {
+        return (move & PAWN_JUMP) != 0;
+    }
+
+    /**
+     * Checks if a move is a pawn capturing en passant.
+     *
+     * @param move the move code
+     * @return true if the move is an en passant capture, false otherwise
+     */
+    public static boolean isEnPassant(final int move)
+    {
+        return (move & EN_PASSANT) != 0;
+    }
+
+    /**
+     * Checks if a move is a king castling.
+     * The destination of a castling move is the square the king lands on.
+     *
+     * @param move the move code
+     * @return true if the move is a castling move, false otherwise
+     */
+    public static boolean isCastle(final int move)
+    {
+        return (move & CASTLE) != 0;
+    }
+
+    /**
+     * Retrieves the square the captured piece stands on before the move.
+     * It is the destination square, except for en passant, where the captured pawn stands beside the origin square.
+     *
+     * @param move the move code
+     * @return the square of the captured piece
+     */
+    public static int captureSquare(final int move)
+    {
+        return isEnPassant(move) ? (from(move) & ~7) | (to(move) & 7) : to(move);
+    }
+
+    /**
+     * Retrieves the square the rook starts from in a castling move: the corner on the side the king moves to.
+     *
+     * @param move the code of a castling move
+     * @return the origin square of the rook
+     */
+    public static int castlingRookFrom(final int move)
+    {
+        return to(move) > from(move) ? from(move) + 3 : from(move) - 4;
+    }
+
+    /**
+     * Retrieves the square the rook lands on in a castling move: the square the king passes over.
+     *
+     * @param move the code of a castling move
+     * @return the destination square of the rook
+     */
+    public static int castlingRookTo(final int move)
+    {
+        return (from(move) + to(move)) / 2;
+    }
+
+    /**
+     * Retrieves the code of the rook moved along with the king in a castling move.
+     *
+     * @param move the code of a castling move
+     * @return the piece code of the rook
+     */
+    public static int castlingRook(final int move)
+    {
+        return BitBoard.pieceCode(BitBoard.colorOf(movedPiece(move)), Piece.PieceType.ROOK);
+    }
+
+    /**
+     * Creates the move object matching a move code on the given board.
+     * The move is built the same way the piece generators build it, so it compares equal to the generated one.
+     *
+     * @param board the board the move is made on
+     * @param move  the move code
+     * @return the move object
+     */
+    public static Move toMove(final Board board, final int move)
+    {
+        final int from = from(move);
+        final int to = to(move);
+        final Piece movedPiece = board.getPiece(from);
+        final Piece attackedPiece = board.getPiece(captureSquare(move));
+        if(isPromotion(move))
+        {
+            final Piece promotionPiece = PieceData.INSTANCE.getPromotionPiece(promotionType(move), movedPiece.getPieceColor(), to);
+            final Move pawnMove = attackedPiece == null ? new Move.MinorPieceRegularMove(board, movedPiece, to) : new Move.MinorPieceAttackMove(board, movedPiece, attackedPiece, to);
+            return new Move.PawnPromotion(pawnMove, promotionPiece);
+        }
+        if(isEnPassant(move))
+        {
+            return new Move.EnPassantMove(board, movedPiece, attackedPiece, to);
+        }
+        if(isCastle(move))
+        {
+            return new Move.CastleMove(board, movedPiece, to, board.getPiece(castlingRookFrom(move)), castlingRookTo(move));
+        }
+        if(isPawnJump(move))
+        {
+            return new Move.PawnJump(board, movedPiece, to);
+        }
+        if(attackedPiece == null)
+        {
+            return movedPiece.getPieceType() == Piece.PieceType.PAWN ? new Move.MinorPieceRegularMove(board, movedPiece, to) : new Move.MajorPieceRegularMove(board, movedPiece, to);
+        }
+        if(movedPiece.getPieceType() == Piece.PieceType.PAWN)
+        {
+            return new Move.MinorPieceAttackMove(board, movedPiece, attackedPiece, to);
+        }
+        if(movedPiece.getPieceType() == Piece.PieceType.KNIGHT)
+        {
+            return new Move.AttackMove(board, movedPiece, attackedPiece, to);
+        }
+        return new Move.MajorPieceAttackMove(board, movedPiece, attackedPiece, to);
+    }
+
+    /**
+     * Returns the notation the move history shows for a move, the same as the move objects give:
+     * "Nf3" for a piece, "e4" for a pawn push, "exd5" for a pawn capture, "e7-e8=Q" for a promotion
+     * and "O-O" or "O-O-O" for castling.
+     *
+     * @param move the move code
+     * @return the move in history notation
+     */
+    public static String toNotation(final int move)
+    {
+        if(isCastle(move))
+        {
+            return to(move) > from(move) ? "O-O" : "O-O-O";
+        }
+        final String destination = BoardData.getPositionAtCoord(to(move));
+        if(isPromotion(move))
+        {
+            return BoardData.getPositionAtCoord(from(move)) + "-" + destination + "=" + promotionType(move);
+        }
+        final Piece.PieceType movedType = BitBoard.typeOf(movedPiece(move));
+        if(movedType != Piece.PieceType.PAWN)
+        {
+            return movedType + destination;
+        }
+        return isCapture(move) ? BoardData.getPositionAtCoord(from(move)).charAt(0) + "x" + destination : destination;
+    }
+
+    /**
+     * Returns a coordinate notation of a move, such as "e2e4" or "e7e8Q".
+     *
+     * @param move the move code
+     * @return the move in coordinate notation
+     */
+    public static String toString(final int move)
+    {
+        final String text = BoardData.getPositionAtCoord(from(move)) + BoardData.getPositionAtCoord(to(move));
+        return isPromotion(move) ? text + promotionType(move) : text;
+    }
+}
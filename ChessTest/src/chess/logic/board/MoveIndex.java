@@ -0,0 +1,157 @@
+package chess.logic.board;
+
+import chess.logic.pieces.Piece;
+
+import java.util.Collection;
+
+/**
+ * The `MoveIndex` class finds the move of a position matching an origin square, a destination square
+ * and a promotion type in constant time.
+ * Moves are stored in a small open-addressing table keyed by those three values, so a lookup hashes the key
+ * and probes a few slots instead of scanning every move, and never compares moves field by field.
+ */
+public final class MoveIndex {
+    private final int[] keys; // Key of the move in every slot plus one, 0 for an empty slot
+    private final Move[] moves; // The move stored in every slot
+    private final int mask; // Number of slots minus one, the number of slots being a power of two
+
+    /**
+     * Constructs the index of the given moves.
+     *
+     * @param moves the moves of a position
+     */
+    public MoveIndex(final Collection<Move> moves)
+    {
+        final int capacity = Integer.highestOneBit(Math.max(moves.size(), 1) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.moves = new Move[capacity];
+        this.mask = capacity - 1;
+        for(final Move move : moves)
+        {
+            put(key(move), move);
+        }
+    }
+
+    /**
+     * Computes the key of a move from its squares and promotion.
+     *
+     * @param from          the origin square
+     * @param to            the destination square
+     * @param promotionType the type the pawn is promoted to, null if the move is not a promotion
+     * @return the key
+     */
+    private static int key(final int from, final int to, final Piece.PieceType promotionType)
+    {
+        return from | (to << 6) | ((promotionType == null ? 0 : promotionType.ordinal() + 1) << 12);
+    }
+
+    /**
+     * Computes the key of a move.
+     *
+     * @param move the move
+     * @return the key
+     */
+    private static int key(final Move move)
+    {
+        final int code = MoveCode.encode(move);
+        return key(MoveCode.from(code), MoveCode.to(code), MoveCode.isPromotion(code) ? MoveCode.promotionType(code) : null);
+    }
+
+    /**
+     * Computes the first slot probed for a key.
+     *
+     * @param key the key
+     * @return the slot
+     */
+    private int slot(final int key)
+    {
+        return (key * 0x9E3779B9 >>> 16) & this.mask;
+    }
+
+    /**
+     * Stores a move under its key, keeping the first move stored under a key.
+     *
+     * @param key  the key
+     * @param move the move
+     */
+    private void put(final int key, final Move move)
+    {
+        int slot = slot(key);
+        while(this.keys[slot] != 0)
+        {
+            if(this.keys[slot] == key + 1)
+            {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot] = key + 1;
+        this.moves[slot] = move;
+    }
+
+    /**
+     * Finds the move stored under a key.
+     *
+     * @param key the key
+     * @return the move, or null if there is none
+     */
+    private Move find(final int key)
+    {
+        int slot = slot(key);
+        while(this.keys[slot] != 0)
+        {
+            if(this.keys[slot] == key + 1)
+            {
+                return this.moves[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the move going from one square to another with the given promotion.
+     *
+     * @param from          the origin square
+     * @param to            the destination square
+     * @param promotionType the type the pawn is promoted to, null if the move is not a promotion
+     * @return the move, or Move.INVALID_MOVE if there is none
+     */
+    public Move get(final int from, final int to, final Piece.PieceType promotionType)
+    {
+        final Move move = find(key(from, to, promotionType));
+        return move != null ? move : Move.INVALID_MOVE;
+    }
+
+    /**
+     * Finds the move going from one square to another.
+     * When the move is a promotion, the promotion to a queen is returned.
+     *
+     * @param from the origin square
+     * @param to   the destination square
+     * @return the move, or Move.INVALID_MOVE if there is none
+     */
+    public Move get(final int from, final int to)
+    {
+        final Move move = find(key(from, to, null));
+        return move != null ? move : get(from, to, Piece.PieceType.QUEEN);
+    }
+
+    /**
+     * Checks if the index holds a move.
+     * The move is looked up by its squares and promotion; it only has to be compared with the stored one
+     * when it is not the very same object, as is the case for moves handed out by the index or the move list.
+     *
+     * @param move the move
+     * @return true if the move is one of the indexed moves, false otherwise
+     */
+    public boolean contains(final Move move)
+    {
+        if(move == null || move == Move.INVALID_MOVE)
+        {
+            return false;
+        }
+        final Move found = find(key(move));
+        return found == move || (found != null && found.equals(move));
+    }
+}
@@ -0,0 +1,215 @@
+package chess.logic.board;
+
+import chess.logic.pieces.Piece;
+
+/**
+ * The `MovePicker` class hands out the moves of a position one at a time, best candidates first, for alpha-beta search.
+ * Moves are produced in stages, and a stage is only generated once the previous ones are used up:
+ * <ol>
+ *     <li>the hash move, taken from the transposition table, checked but never generated;</li>
+ *     <li>captures, most valuable victim first and, for the same victim, least valuable attacker first;</li>
+ *     <li>promotions that capture nothing;</li>
+ *     <li>the killer moves, quiet moves that caused a cutoff in a sibling node;</li>
+ *     <li>the remaining quiet moves.</li>
+ * </ol>
+ * A node cut off by the hash move or a good capture never generates its quiet moves at all.
+ * Like the generators, the picker returns pseudo-legal moves; the caller still has to reject those leaving the king attacked.
+ * A search keeps one picker per ply and calls reset() for every node, so picking allocates nothing.
+ */
+public final class MovePicker {
+    /**
+     * The stages of the picker, in the order they are gone through.
+     */
+    private enum Stage {
+        HASH_MOVE, GENERATE_CAPTURES, CAPTURES, GENERATE_QUIETS, PROMOTIONS, FIRST_KILLER, SECOND_KILLER, QUIETS, DONE
+    }
+
+    private final MoveList moves; // The moves of the current stage
+    private final int[] scores; // Ordering score of every capture in moves
+    private BitBoard bitBoard; // The position the moves are picked for
+    private int hashMove; // Move suggested by the transposition table, MoveCode.NONE if none
+    private int firstKiller; // Killer moves of the ply, MoveCode.NONE if none
+    private int secondKiller;
+    private Stage stage; // The stage the next move is taken from
+    private int index; // Index of the next move of the stage in moves
+
+    /**
+     * Constructs a picker writing the generated moves into the given list.
+     *
+     * @param moves the list the picker generates into, owned by the picker until it is no longer used
+     */
+    public MovePicker(final MoveList moves)
+    {
+        this.moves = moves;
+        this.scores = new int[MoveList.CAPACITY];
+        this.stage = Stage.DONE;
+    }
+
+    /**
+     * Starts picking the moves of the side to move in a new position.
+     *
+     * @param bitBoard     the position
+     * @param hashMove     the move stored for the position in the transposition table, MoveCode.NONE if none
+     * @param firstKiller  the first killer move of the ply, MoveCode.NONE if none
+     * @param secondKiller the second killer move of the ply, MoveCode.NONE if none
+     */
+    public void reset(final BitBoard bitBoard, final int hashMove, final int firstKiller, final int secondKiller)
+    {
+        this.bitBoard = bitBoard;
+        this.hashMove = MoveGenerator.isPseudoLegal(bitBoard, hashMove) ? hashMove : MoveCode.NONE;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.moves.clear();
+        this.stage = Stage.HASH_MOVE;
+        this.index = 0;
+    }
+
+    /**
+     * Returns the next move, generating the next stages as needed.
+     *
+     * @return the next move code, MoveCode.NONE once every move has been returned
+     */
+    public int next()
+    {
+        while(true)
+        {
+            switch(this.stage)
+            {
+                case HASH_MOVE ->
+                {
+                    this.stage = Stage.GENERATE_CAPTURES;
+                    if(this.hashMove != MoveCode.NONE)
+                    {
+                        return this.hashMove;
+                    }
+                }
+                case GENERATE_CAPTURES ->
+                {
+                    this.moves.clear();
+                    MoveGenerator.generateCaptures(this.bitBoard, this.bitBoard.sideToMove, this.moves);
+                    for(int i = 0; i < this.moves.size(); ++i)
+                    {
+                        this.scores[i] = captureScore(this.moves.get(i));
+                    }
+                    this.index = 0;
+                    this.stage = Stage.CAPTURES;
+                }
+                case CAPTURES ->
+                {
+                    if(this.index == this.moves.size())
+                    {
+                        this.stage = Stage.GENERATE_QUIETS;
+                        continue;
+                    }
+                    final int move = pickBestCapture();
+                    if(move != this.hashMove)
+                    {
+                        return move;
+                    }
+                }
+                case GENERATE_QUIETS ->
+                {
+                    this.moves.clear();
+                    MoveGenerator.generateQuiets(this.bitBoard, this.bitBoard.sideToMove, this.moves);
+                    this.index = 0;
+                    this.stage = Stage.PROMOTIONS;
+                }
+                case PROMOTIONS ->
+                {
+                    if(this.index == this.moves.size())
+                    {
+                        this.index = 0;
+                        this.stage = Stage.FIRST_KILLER;
+                        continue;
+                    }
+                    final int move = this.moves.get(this.index++);
+                    if(MoveCode.isPromotion(move) && move != this.hashMove)
+                    {
+                        return move;
+                    }
+                }
+                case FIRST_KILLER ->
+                {
+                    this.stage = Stage.SECOND_KILLER;
+                    if(isUsableKiller(this.firstKiller))
+                    {
+                        return this.firstKiller;
+                    }
+                }
+                case SECOND_KILLER ->
+                {
+                    this.stage = Stage.QUIETS;
+                    if(this.secondKiller != this.firstKiller && isUsableKiller(this.secondKiller))
+                    {
+                        return this.secondKiller;
+                    }
+                }
+                case QUIETS ->
+                {
+                    if(this.index == this.moves.size())
+                    {
+                        this.stage = Stage.DONE;
+                        continue;
+                    }
+                    final int move = this.moves.get(this.index++);
+                    if(!MoveCode.isPromotion(move) && move != this.hashMove && move != this.firstKiller && move != this.secondKiller)
+                    {
+                        return move;
+                    }
+                }
+                case DONE ->
+                {
+                    return MoveCode.NONE;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the ordering score of a capture: the value of the victim first, then the cheapness of the attacker.
+     *
+     * @param move the capture
+     * @return the score, higher for better captures
+     */
+    private static int captureScore(final int move)
+    {
+        final int victimValue = BitBoard.typeOf(MoveCode.capturedPiece(move)).getPieceValue();
+        final Piece.PieceType attacker = BitBoard.typeOf(MoveCode.movedPiece(move));
+        return victimValue * 16 - (attacker.isKing() ? 0 : attacker.getPieceValue() / 100);
+    }
+
+    /**
+     * Moves the best remaining capture to the current index and returns it.
+     * Captures are sorted one selection step at a time, so a cutoff leaves the rest unsorted.
+     *
+     * @return the best remaining capture
+     */
+    private int pickBestCapture()
+    {
+        int best = this.index;
+        for(int i = this.index + 1; i < this.moves.size(); ++i)
+        {
+            if(this.scores[i] > this.scores[best])
+            {
+                best = i;
+            }
+        }
+        this.moves.swap(this.index, best);
+        final int score = this.scores[this.index];
+        this.scores[this.index] = this.scores[best];
+        this.scores[best] = score;
+        return this.moves.get(this.index++);
+    }
+
+    /**
+     * Checks if a killer move can be played in the position and was not already returned in another stage.
+     *
+     * @param killer the killer move
+     * @return true if the killer has to be returned now, false otherwise
+     */
+    private boolean isUsableKiller(final int killer)
+    {
+        return killer != this.hashMove && !MoveCode.isCapture(killer) && !MoveCode.isPromotion(killer)
+                && MoveGenerator.isPseudoLegal(this.bitBoard, killer);
+    }
+}
@@ -0,0 +1,187 @@
+package chess.logic.board;
+
+import chess.logic.player.Player;
+
+/**
+ * The `Perft` class counts the leaf nodes of the tree of legal moves of a position down to a given depth.
+ * The counts of well-known test positions are published, so comparing against them checks every move rule
+ * of the generator at once: castling, en passant, promotions, pins and checks. Any change to move generation
+ * has to reproduce the reference counts of the positions below.
+ */
+public final class Perft {
+    /**
+     * The standard perft test positions with their reference node counts, the count at depth 1 first.
+     */
+    public enum Position {
+        STARTPOS("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                20L, 400L, 8902L, 197281L, 4865609L, 119060324L),
+        KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                48L, 2039L, 97862L, 4085603L, 193690690L),
+        POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                14L, 191L, 2812L, 43238L, 674624L, 11030083L),
+        POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                6L, 264L, 9467L, 422333L, 15833292L),
+        POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                44L, 1486L, 62379L, 2103487L, 89941194L),
+        POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                46L, 2079L, 89890L, 3894594L, 164075551L);
+
+        private final String fen; // The position in Forsyth-Edwards Notation
+        private final long[] nodes; // Reference node count at every depth, depth 1 at index 0
+
+        Position(final String fen, final long... nodes)
+        {
+            this.fen = fen;
+            this.nodes = nodes;
+        }
+
+        /**
+         * Retrieves the position in Forsyth-Edwards Notation.
+         *
+         * @return the FEN of the position
+         */
+        public String getFen()
+        {
+            return this.fen;
+        }
+
+        /**
+         * Builds a board holding the position.
+         *
+         * @return a new board
+         */
+        public Board createBoard()
+        {
+            return Board.fromFen(this.fen);
+        }
+
+        /**
+         * Retrieves the deepest depth a reference count is known for.
+         *
+         * @return the maximum depth
+         */
+        public int getMaxDepth()
+        {
+            return this.nodes.length;
+        }
+
+        /**
+         * Retrieves the reference node count of the position at a depth.
+         *
+         * @param depth the depth, from 1 to getMaxDepth()
+         * @return the number of leaf nodes
+         * @throws IllegalArgumentException if no reference count is known for the depth
+         */
+        public long getNodes(final int depth)
+        {
+            if(depth < 1 || depth > this.nodes.length)
+            {
+                throw new IllegalArgumentException("No reference count for " + this + " at depth " + depth);
+            }
+            return this.nodes[depth - 1];
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the `Perft` class.
+     */
+    private Perft()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree of the position on a search board.
+     * Moves are made and taken back in place. The last ply is bulk counted: the legal moves of the nodes
+     * one ply above the leaves are counted without being generated or made.
+     *
+     * @param board the position, left unchanged on return
+     * @param depth the number of plies to go down, 0 or more
+     * @return the number of leaf nodes
+     */
+    public static long perft(final SearchBoard board, final int depth)
+    {
+        if(depth == 0)
+        {
+            return 1L;
+        }
+        if(depth == 1)
+        {
+            return board.legalMoveCount();
+        }
+        final MoveArena arena = MoveArena.current();
+        final MoveList moves = arena.acquire();
+        try
+        {
+            board.generateLegalMoves(moves);
+            long nodes = 0L;
+            for(int index = 0; index < moves.size(); ++index)
+            {
+                board.makeMove(moves.get(index));
+                nodes += perft(board, depth - 1);
+                board.unmakeMove();
+            }
+            return nodes;
+        } finally
+        {
+            arena.release();
+        }
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree of a board, going through the move objects of the players.
+     * Every move is made by building the next board, as the game does; the last ply is bulk counted
+     * with the legal move count of the player to move.
+     *
+     * @param board the position
+     * @param depth the number of plies to go down, 0 or more
+     * @return the number of leaf nodes
+     */
+    public static long perft(final Board board, final int depth)
+    {
+        if(depth == 0)
+        {
+            return 1L;
+        }
+        final Player player = board.getCurrentPlayer();
+        if(depth == 1)
+        {
+            return player.legalMoveCount();
+        }
+        final LegalMoveFilter filter = player.getLegalMoveFilter();
+        long nodes = 0L;
+        for(final Move move : player.getLegalMoves())
+        {
+            if(filter.isLegal(move))
+            {
+                nodes += perft(move.make(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Checks that the bitboard generator reproduces the reference count of a test position.
+     *
+     * @param position the test position
+     * @param depth    the depth, from 1 to position.getMaxDepth()
+     * @return true if the count matches the reference, false otherwise
+     */
+    public static boolean verify(final Position position, final int depth)
+    {
+        return perft(new SearchBoard(position.createBoard()), depth) == position.getNodes(depth);
+    }
+
+    /**
+     * Checks that the move objects of the players, kept or dropped by their LegalMoveFilter,
+     * reproduce the reference count of a test position.
+     *
+     * @param position the test position
+     * @param depth    the depth, from 1 to position.getMaxDepth()
+     * @return true if the count matches the reference, false otherwise
+     */
+    public static boolean verifyBoard(final Position position, final int depth)
+    {
+        return perft(position.createBoard(), depth) == position.getNodes(depth);
+    }
+}
@@ -3,7 +3,13 @@ package chess.logic.pieces;
 import chess.Color;
 import chess.logic.board.Board;
 import chess.logic.board.Move;
+import chess.logic.board.MoveArena;
+import chess.logic.board.MoveCode;
+import chess.logic.board.MoveGenerator;
+import chess.logic.board.MoveList;
+import chess.logic.player.Player;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -226,13 +232,67 @@ public abstract class Piece {
         public abstract boolean isRook();
     }
 
+    /**
+     * Writes the moves of the piece on the given board into a caller-supplied buffer, as move codes.
+     * Nothing is allocated, so a search can generate into the same buffers over and over, see MoveArena.
+     *
+     * @param board The board on which the piece is located.
+     * @param moves The buffer receiving the move codes, appended to.
+     */
+    public final void generateMoves(final Board board, final MoveList moves)
+    {
+        MoveGenerator.generatePieceMoves(board.getBitBoard(), this.pieceCoord, moves);
+    }
+
     /**
      * Determines the legal moves for the piece on the given board.
+     * The moves are generated into a scratch buffer of the calling thread and only then turned into move objects.
      *
      * @param board The board on which the piece is located.
      * @return A list of legal moves for the piece.
      */
-    public abstract List<Move> getLegalMoves(final Board board);
+    public final List<Move> getLegalMoves(final Board board)
+    {
+        final MoveArena arena = MoveArena.current();
+        final MoveList moves = arena.acquire();
+        try
+        {
+            generateMoves(board, moves);
+            return toMoves(board, moves, new ArrayList<>(moves.size()));
+        } finally
+        {
+            arena.release();
+        }
+    }
+
+    /**
+     * Counts the legal moves of the piece on the given board without creating any move, for instance to measure mobility.
+     *
+     * @param board The board on which the piece is located.
+     * @return The number of legal moves of the piece.
+     */
+    public final int legalMoveCount(final Board board)
+    {
+        final Player owner = this.pieceColor.isWhite() ? board.whitePlayer() : board.blackPlayer();
+        return MoveGenerator.countLegalMoves(board.getBitBoard(), this.pieceCoord, owner.getLegalMoveFilter());
+    }
+
+    /**
+     * Turns move codes into move objects.
+     *
+     * @param board  The board the moves are made on.
+     * @param moves  The move codes.
+     * @param result The list receiving the move objects.
+     * @return The result list.
+     */
+    public static List<Move> toMoves(final Board board, final MoveList moves, final List<Move> result)
+    {
+        for(int index = 0; index < moves.size(); ++index)
+        {
+            result.add(MoveCode.toMove(board, moves.get(index)));
+        }
+        return result;
+    }
 
     /**
      * Moves the piece according to the given move.
@@ -244,22 +304,16 @@ public abstract class Piece {
 
     /**
      * Checks if the current piece is equal to another object.
+     * Every piece is a canonical instance taken from PieceData, so two pieces with the same type, color,
+     * coordinate and move status are the same object.
      *
      * @param object The object to compare.
      * @return True if the current piece is equal to the object, false otherwise.
      */
     @Override
-    public boolean equals(final Object object)
+    public final boolean equals(final Object object)
     {
-        if(this == object)
-        {
-            return true;
-        }
-        if(!(object instanceof Piece other))
-        {
-            return false;
-        }
-        return pieceCoord == other.getPieceCoord() && pieceType == other.getPieceType() && pieceColor == other.getPieceColor() && isFirstMove == other.isFirstMove();
+        return this == object;
     }
 
     /**
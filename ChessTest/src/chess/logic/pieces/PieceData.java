@@ -2,26 +2,122 @@ package chess.logic.pieces;
 
 import chess.Color;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
- * Enum singleton class responsible for managing all possible moved pawns and queens.
+ * Enum singleton class holding the one instance of every possible piece.
+ * Pieces are immutable, so a piece of a given type, color, square and move status only ever needs to exist once:
+ * every piece on every board is taken from these tables, which makes comparing two pieces an identity check.
  */
 public enum PieceData {
 
     INSTANCE; // Singleton instance
 
-    private final Map<Color, Map<Integer, Queen>> ALL_POSSIBLE_QUEENS; // Map of all possible moved queens
-    private final Map<Color, Map<Integer, Pawn>> ALL_POSSIBLE_PAWNS; // Map of all possible moved pawns
+    private static final int CASTLE_STATES = 8; // isCastled, shortCastleCapable and longCastleCapable of a king
+
+    private final Piece[] ALL_POSSIBLE_PIECES; // Every queen, rook, bishop, knight and pawn, see pieceIndex()
+    private final King[] ALL_POSSIBLE_KINGS; // Every king, see kingIndex()
 
     /**
-     * Constructor for PieceData enum. Initializes the maps of all possible moved pawns and queens.
+     * Constructor for PieceData enum. Creates every possible piece up front.
      */
     PieceData()
     {
-        ALL_POSSIBLE_PAWNS = createAllPossibleMovedPawns();
-        ALL_POSSIBLE_QUEENS = createAllPossibleMovedQueens();
+        ALL_POSSIBLE_PIECES = createAllPossiblePieces();
+        ALL_POSSIBLE_KINGS = createAllPossibleKings();
+    }
+
+    /**
+     * Computes the position of a non-king piece in the piece table.
+     *
+     * @param pieceType   The type of the piece.
+     * @param color       The color of the piece.
+     * @param pieceCoord  The coordinate of the piece.
+     * @param isFirstMove True if the piece has not moved yet.
+     * @return The index of the piece.
+     */
+    private static int pieceIndex(final Piece.PieceType pieceType, final Color color, final int pieceCoord, final boolean isFirstMove)
+    {
+        return (((pieceType.ordinal() * 2 + color.ordinal()) << 6 | pieceCoord) << 1) | (isFirstMove ? 1 : 0);
+    }
+
+    /**
+     * Computes the position of a king in the king table.
+     *
+     * @param color              The color of the king.
+     * @param pieceCoord         The coordinate of the king.
+     * @param isFirstMove        True if the king has not moved yet.
+     * @param isCastled          True if the king has castled.
+     * @param shortCastleCapable True if the king can still castle short.
+     * @param longCastleCapable  True if the king can still castle long.
+     * @return The index of the king.
+     */
+    private static int kingIndex(final Color color, final int pieceCoord, final boolean isFirstMove, final boolean isCastled,
+                                 final boolean shortCastleCapable, final boolean longCastleCapable)
+    {
+        final int castleState = (isCastled ? 4 : 0) | (shortCastleCapable ? 2 : 0) | (longCastleCapable ? 1 : 0);
+        return ((((color.ordinal() << 6) | pieceCoord) << 1 | (isFirstMove ? 1 : 0)) * CASTLE_STATES) + castleState;
+    }
+
+    /**
+     * Retrieves the piece of the specified type, color, coordinate and move status.
+     *
+     * @param pieceType   The type of the piece, anything but a king.
+     * @param color       The color of the piece.
+     * @param pieceCoord  The coordinate of the piece.
+     * @param isFirstMove True if the piece has not moved yet.
+     * @return The canonical piece.
+     * @throws IllegalArgumentException if the type is KING, kings are retrieved with getKing().
+     */
+    public Piece getPiece(final Piece.PieceType pieceType, final Color color, final int pieceCoord, final boolean isFirstMove)
+    {
+        if(pieceType.isKing())
+        {
+            throw new IllegalArgumentException("Kings are retrieved with getKing()");
+        }
+        return ALL_POSSIBLE_PIECES[pieceIndex(pieceType, color, pieceCoord, isFirstMove)];
+    }
+
+    /**
+     * Retrieves the king of the specified color, coordinate, move status and castle state.
+     *
+     * @param color              The color of the king.
+     * @param pieceCoord         The coordinate of the king.
+     * @param isFirstMove        True if the king has not moved yet.
+     * @param isCastled          True if the king has castled.
+     * @param shortCastleCapable True if the king can still castle short.
+     * @param longCastleCapable  True if the king can still castle long.
+     * @return The canonical king.
+     */
+    public King getKing(final Color color, final int pieceCoord, final boolean isFirstMove, final boolean isCastled,
+                        final boolean shortCastleCapable, final boolean longCastleCapable)
+    {
+        return ALL_POSSIBLE_KINGS[kingIndex(color, pieceCoord, isFirstMove, isCastled, shortCastleCapable, longCastleCapable)];
+    }
+
+    /**
+     * Retrieves the number of canonical pieces, kings included.
+     *
+     * @return The number of pieces held by the tables.
+     */
+    public int getPieceCount()
+    {
+        return ALL_POSSIBLE_PIECES.length + ALL_POSSIBLE_KINGS.length;
+    }
+
+    /**
+     * Computes a number identifying a canonical piece, from 0 to getPieceCount() - 1.
+     * Lets other classes keep per-piece data in plain arrays.
+     *
+     * @param piece The piece.
+     * @return The index of the piece across both tables.
+     */
+    public int indexOf(final Piece piece)
+    {
+        if(piece instanceof King king)
+        {
+            return ALL_POSSIBLE_PIECES.length + kingIndex(king.getPieceColor(), king.getPieceCoord(), king.isFirstMove(), king.isCastled(),
+                    king.isShortCastleCapable(), king.isLongCastleCapable());
+        }
+        return pieceIndex(piece.getPieceType(), piece.getPieceColor(), piece.getPieceCoord(), piece.isFirstMove());
     }
 
     /**
@@ -33,7 +129,7 @@ public enum PieceData {
      */
     Pawn getMovedPawn(final Color color, final int destinationCoordinate)
     {
-        return ALL_POSSIBLE_PAWNS.get(color).get((Object) destinationCoordinate);
+        return (Pawn) ALL_POSSIBLE_PIECES[pieceIndex(Piece.PieceType.PAWN, color, destinationCoordinate, false)];
     }
 
     /**
@@ -45,46 +141,101 @@ public enum PieceData {
      */
     Queen getMovedQueen(final Color color, final int destinationCoordinate)
     {
-        return ALL_POSSIBLE_QUEENS.get(color).get((Object) (destinationCoordinate));
+        return (Queen) ALL_POSSIBLE_PIECES[pieceIndex(Piece.PieceType.QUEEN, color, destinationCoordinate, false)];
     }
 
     /**
-     * Creates a map containing all possible moved pawns for each color.
+     * Retrieves the piece a pawn of the specified color is promoted to on the destination coordinate.
      *
-     * @return Map of all possible moved pawns.
+     * @param pieceType             The type of the promotion piece.
+     * @param color                 The color of the promoted pawn.
+     * @param destinationCoordinate The destination coordinate of the promotion.
+     * @return The promotion piece.
      */
-    private Map<Color, Map<Integer, Pawn>> createAllPossibleMovedPawns()
+    public Piece getPromotionPiece(final Piece.PieceType pieceType, final Color color, final int destinationCoordinate)
     {
-        final Map<Color, Map<Integer, Pawn>> pieces = new HashMap<>();
-        for(final Color color : Color.values())
+        if(pieceType.isKing() || pieceType == Piece.PieceType.PAWN)
         {
-            Map<Integer, Pawn> innerMap = new HashMap<>();
-            for(int i = 0; i < 64; i++)
+            throw new IllegalArgumentException("A pawn cannot be promoted to " + pieceType);
+        }
+        return getPiece(pieceType, color, destinationCoordinate, false);
+    }
+
+    /**
+     * Creates every possible queen, rook, bishop, knight and pawn, moved and unmoved, for each color and square.
+     *
+     * @return Array of all possible non-king pieces, indexed by pieceIndex().
+     */
+    private Piece[] createAllPossiblePieces()
+    {
+        final Piece.PieceType[] pieceTypes = Piece.PieceType.values();
+        final Piece[] pieces = new Piece[pieceTypes.length * 2 * 64 * 2];
+        for(final Piece.PieceType pieceType : pieceTypes)
+        {
+            if(pieceType.isKing())
+            {
+                continue;
+            }
+            for(final Color color : Color.values())
             {
-                innerMap.put((Integer) i, new Pawn(i, color, false));
+                for(int i = 0; i < 64; i++)
+                {
+                    pieces[pieceIndex(pieceType, color, i, true)] = createPiece(pieceType, color, i, true);
+                    pieces[pieceIndex(pieceType, color, i, false)] = createPiece(pieceType, color, i, false);
+                }
             }
-            pieces.put(color, innerMap);
         }
         return pieces;
     }
 
     /**
-     * Creates a map containing all possible moved queens for each color.
+     * Creates a non-king piece.
      *
-     * @return Map of all possible moved queens.
+     * @param pieceType   The type of the piece.
+     * @param color       The color of the piece.
+     * @param pieceCoord  The coordinate of the piece.
+     * @param isFirstMove True if the piece has not moved yet.
+     * @return The new piece.
      */
-    private Map<Color, Map<Integer, Queen>> createAllPossibleMovedQueens()
+    private static Piece createPiece(final Piece.PieceType pieceType, final Color color, final int pieceCoord, final boolean isFirstMove)
     {
-        final Map<Color, Map<Integer, Queen>> pieces = new HashMap<>();
+        return switch(pieceType)
+        {
+            case QUEEN -> new Queen(pieceCoord, color, isFirstMove);
+            case ROOK -> new Rook(pieceCoord, color, isFirstMove);
+            case BISHOP -> new Bishop(pieceCoord, color, isFirstMove);
+            case KNIGHT -> new Knight(pieceCoord, color, isFirstMove);
+            case PAWN -> new Pawn(pieceCoord, color, isFirstMove);
+            case KING -> throw new IllegalArgumentException("Kings are created by createAllPossibleKings()");
+        };
+    }
+
+    /**
+     * Creates every possible king for each color, square, move status and castle state.
+     *
+     * @return Array of all possible kings, indexed by kingIndex().
+     */
+    private King[] createAllPossibleKings()
+    {
+        final King[] kings = new King[2 * 64 * 2 * CASTLE_STATES];
         for(final Color color : Color.values())
         {
-            Map<Integer, Queen> innerMap = new HashMap<>();
             for(int i = 0; i < 64; i++)
             {
-                innerMap.put((Integer) i, new Queen(i, color, false));
+                for(int firstMove = 0; firstMove < 2; firstMove++)
+                {
+                    for(int castleState = 0; castleState < CASTLE_STATES; castleState++)
+                    {
+                        final boolean isFirstMove = firstMove == 1;
+                        final boolean isCastled = (castleState & 4) != 0;
+                        final boolean shortCastleCapable = (castleState & 2) != 0;
+                        final boolean longCastleCapable = (castleState & 1) != 0;
+                        kings[kingIndex(color, i, isFirstMove, isCastled, shortCastleCapable, longCastleCapable)] =
+                                new King(i, color, isFirstMove, isCastled, shortCastleCapable, longCastleCapable);
+                    }
+                }
             }
-            pieces.put(color, innerMap);
         }
-        return pieces;
+        return kings;
     }
 }
@@ -1,29 +1,23 @@
 package chess.logic.player;
 
 import chess.Color;
-import chess.logic.board.Square;
 import chess.logic.pieces.*;
 import chess.logic.board.Board;
-import chess.logic.board.Move;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * Represents a player with black pieces in a chess game.
  */
 public class BlackPlayer extends Player {
     /**
-     * Initializes a black player with the given board and legal moves.
+     * Initializes a black player with the given board.
      *
-     * @param board                   The board associated with the player.
-     * @param legalBlackStdLegalMoves Legal moves available for black pieces.
-     * @param legalWhiteStdLegalMoves Legal moves available for white pieces.
+     * @param board The board associated with the player.
      */
-    public BlackPlayer(Board board, Collection<Move> legalBlackStdLegalMoves, Collection<Move> legalWhiteStdLegalMoves)
+    public BlackPlayer(Board board)
     {
-        super(board, legalBlackStdLegalMoves, legalWhiteStdLegalMoves);
+        super(board);
     }
 
     /**
@@ -58,34 +52,4 @@ public class BlackPlayer extends Player {
     {
         return this.board.whitePlayer();
     }
-
-    @Override
-    protected Collection<Move> calcCastle(Collection<Move> playerLegalMoves, Collection<Move> enemyLegalMoves)
-    {
-        final List<Move> kingCastle = new ArrayList<>();
-        if(this.playerKing.isFirstMove() && !this.isInCheck())
-        {
-            if(!this.board.getSquare(5).isOccupied() && !this.board.getSquare(6).isOccupied())
-            {
-                final Square rookSquare = this.board.getSquare(7);
-                if(rookSquare.isOccupied() && rookSquare.getPiece().isFirstMove())
-                {
-                    if(Player.calcAttackOnSquare(5, enemyLegalMoves).isEmpty() && Player.calcAttackOnSquare(6, enemyLegalMoves).isEmpty() && rookSquare.getPiece().getPieceType().isRook())
-                    {
-                        kingCastle.add(null);
-                    }
-
-                }
-            }
-            if(!this.board.getSquare(1).isOccupied() && !this.board.getSquare(2).isOccupied() && !this.board.getSquare(3).isOccupied())
-            {
-                final Square rookSquare = this.board.getSquare(0);
-                if(rookSquare.isOccupied() && rookSquare.getPiece().isFirstMove())
-                {
-                    kingCastle.add(null);
-                }
-            }
-        }
-        return kingCastle;
-    }
 }
@@ -0,0 +1,81 @@
+package chess.logic.player;
+
+/**
+ * Enum representing the state of the game for the player to move.
+ */
+public enum GameStatus {
+    /**
+     * The player to move is not in check and has a legal move.
+     */
+    ONGOING(false, false, ""),
+    /**
+     * The player to move is in check and has a legal move.
+     */
+    CHECK(true, false, "+"),
+    /**
+     * The player to move is in check and has no legal move.
+     */
+    CHECKMATE(true, true, "#"),
+    /**
+     * The player to move is not in check and has no legal move.
+     */
+    STALEMATE(false, true, "");
+
+    private final boolean isCheck;
+    private final boolean isGameOver;
+    private final String notation;
+
+    // Constructor
+    GameStatus(final boolean isCheck, final boolean isGameOver, final String notation)
+    {
+        this.isCheck = isCheck;
+        this.isGameOver = isGameOver;
+        this.notation = notation;
+    }
+
+    /**
+     * Determines the status from the check state and the existence of a legal move.
+     *
+     * @param isInCheck    True if the player to move is in check.
+     * @param hasLegalMove True if the player to move has at least one legal move.
+     * @return The matching status.
+     */
+    public static GameStatus of(final boolean isInCheck, final boolean hasLegalMove)
+    {
+        if(hasLegalMove)
+        {
+            return isInCheck ? CHECK : ONGOING;
+        }
+        return isInCheck ? CHECKMATE : STALEMATE;
+    }
+
+    /**
+     * Checks if the player to move is in check.
+     *
+     * @return True for CHECK and CHECKMATE, false otherwise.
+     */
+    public boolean isCheck()
+    {
+        return this.isCheck;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return True for CHECKMATE and STALEMATE, false otherwise.
+     */
+    public boolean isGameOver()
+    {
+        return this.isGameOver;
+    }
+
+    /**
+     * Gets the suffix appended to a move reaching this status in the move history.
+     *
+     * @return "+" for check, "#" for checkmate, an empty string otherwise.
+     */
+    public String getNotation()
+    {
+        return this.notation;
+    }
+}
@@ -1,14 +1,10 @@
 package chess.logic.player;
 
 import chess.Color;
-import chess.logic.board.Square;
 import chess.logic.pieces.*;
 import chess.logic.board.Board;
-import chess.logic.board.Move;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * Represents a white player in a chess game.
@@ -18,13 +14,11 @@ public class WhitePlayer extends Player {
     /**
      * Constructs a WhitePlayer object.
      *
-     * @param board                   The chess board.
-     * @param legalWhiteStdLegalMoves Collection of legal moves for the white player.
-     * @param legalBlackStdLegalMoves Collection of legal moves for the black player.
+     * @param board The chess board.
      */
-    public WhitePlayer(Board board, Collection<Move> legalWhiteStdLegalMoves, Collection<Move> legalBlackStdLegalMoves)
+    public WhitePlayer(Board board)
     {
-        super(board, legalWhiteStdLegalMoves, legalBlackStdLegalMoves);
+        super(board);
     }
 
     /**
@@ -59,34 +53,4 @@ public class WhitePlayer extends Player {
     {
         return this.board.blackPlayer();
     }
-
-    @Override
-    protected Collection<Move> calcCastle(Collection<Move> playerLegalMoves, Collection<Move> enemyLegalMoves)
-    {
-        final List<Move> kingCastle = new ArrayList<>();
-        if(this.playerKing.isFirstMove() && !this.isInCheck())
-        {
-            if(!this.board.getSquare(61).isOccupied() && !this.board.getSquare(62).isOccupied())
-            {
-                final Square rookSquare = this.board.getSquare(63);
-                if(rookSquare.isOccupied() && rookSquare.getPiece().isFirstMove())
-                {
-                    if(Player.calcAttackOnSquare(61, enemyLegalMoves).isEmpty() && Player.calcAttackOnSquare(62, enemyLegalMoves).isEmpty() && rookSquare.getPiece().getPieceType().isRook())
-                    {
-                        kingCastle.add(null);
-                    }
-
-                }
-            }
-            if(!this.board.getSquare(57).isOccupied() && !this.board.getSquare(58).isOccupied() && !this.board.getSquare(59).isOccupied())
-            {
-                final Square rookSquare = this.board.getSquare(56);
-                if(rookSquare.isOccupied() && rookSquare.getPiece().isFirstMove())
-                {
-                    kingCastle.add(null);
-                }
-            }
-        }
-        return kingCastle;
-    }
 }
@@ -0,0 +1,71 @@
+package chess;
+
+import chess.logic.board.ParallelPerft;
+import chess.logic.board.Perft;
+import chess.logic.board.SearchBoard;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless check of move generation against the published perft counts of the standard test positions.
+ * Both the bitboard generator and the move objects of the players, whose legality is told by LegalMoveFilter
+ * instead of making every move and testing the king square, are counted. At the deepest depth of every position,
+ * both are counted again with ParallelPerft, which has to give the same totals as the sequential counts.
+ * Usage: {@code PerftCheck [depth]}; every position of Perft.Position is counted at every depth from 1 up to
+ * the given one (4 by default), or up to the deepest reference count known for it.
+ * Every count is printed, and the exit status is 1 if any of them differs from its reference.
+ */
+public class PerftCheck {
+    private static final int DEFAULT_DEPTH = 4; // Deep enough for castling, en passant and promotions in every position
+
+    public static void main(String[] args)
+    {
+        int maxDepth;
+        try
+        {
+            maxDepth = args.length == 0 ? DEFAULT_DEPTH : Integer.parseInt(args[0]);
+        } catch(final NumberFormatException exception)
+        {
+            maxDepth = 0;
+        }
+        if(args.length > 1 || maxDepth < 1)
+        {
+            System.err.println("Usage: PerftCheck [depth]");
+            System.exit(2);
+        }
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        int failures = 0;
+        for(final Perft.Position position : Perft.Position.values())
+        {
+            final int positionDepth = Math.min(maxDepth, position.getMaxDepth());
+            for(int depth = 1; depth <= positionDepth; ++depth)
+            {
+                failures += report(position, depth, "bitboard", Perft.verify(position, depth));
+                failures += report(position, depth, "board", Perft.verifyBoard(position, depth));
+            }
+            final long expected = position.getNodes(positionDepth);
+            failures += report(position, positionDepth, "parallel bitboard", ParallelPerft.perft(pool, new SearchBoard(position.createBoard()), positionDepth) == expected);
+            failures += report(position, positionDepth, "parallel board", ParallelPerft.perft(pool, position.createBoard(), positionDepth) == expected);
+        }
+        System.out.println(failures == 0 ? "All counts match" : failures + " count(s) differ from the reference");
+        if(failures != 0)
+        {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints the result of one count.
+     *
+     * @param position  the test position
+     * @param depth     the depth of the count
+     * @param generator the name of the generator that made the count
+     * @param matches   true if the count matched the reference
+     * @return 0 if the count matched, 1 otherwise
+     */
+    private static int report(final Perft.Position position, final int depth, final String generator, final boolean matches)
+    {
+        System.out.println(position + " depth " + depth + " " + generator + ": " + (matches ? "OK" : "MISMATCH, expected " + position.getNodes(depth)));
+        return matches ? 0 : 1;
+    }
+}
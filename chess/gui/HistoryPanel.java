@@ -1,7 +1,10 @@
 package chess.gui;
 
+import chess.logic.board.BitBoard;
 import chess.logic.board.Board;
+import chess.logic.board.GameRecord;
 import chess.logic.board.Move;
+import chess.logic.board.MoveCode;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -44,27 +47,29 @@ public class HistoryPanel extends JPanel {
     {
         int currentRow = 0;
         this.model.clear();
-        for(final Move move : movelog.getMoves())
+        final GameRecord record = movelog.getRecord();
+        for(int ply = 0; ply < record.size(); ++ply)
         {
-            final String moveText = move.toString();
-            if(move.getMovedPiece().getPieceColor().isWhite())
+            final int move = record.get(ply);
+            final String moveText = MoveCode.toNotation(move);
+            if(BitBoard.colorOf(MoveCode.movedPiece(move)).isWhite())
             {
                 this.model.setValueAt(moveText, currentRow, 0);
-            } else if(move.getMovedPiece().getPieceColor().isBlack())
+            } else
             {
                 this.model.setValueAt(moveText, currentRow, 1);
                 currentRow++;
             }
         }
-        if(!movelog.getMoves().isEmpty())
+        if(!record.isEmpty())
         {
-            final Move lastMove = movelog.getMoves().get(movelog.size() - 1);
-            final String moveText = lastMove.toString();
+            final int lastMove = record.last();
+            final String moveText = MoveCode.toNotation(lastMove);
 
-            if(lastMove.getMovedPiece().getPieceColor().isWhite())
+            if(BitBoard.colorOf(MoveCode.movedPiece(lastMove)).isWhite())
             {
                 this.model.setValueAt(moveText + calculateCheckStHash(board), currentRow, 0);
-            } else if(lastMove.getMovedPiece().getPieceColor().isBlack())
+            } else
             {
                 this.model.setValueAt(moveText + calculateCheckStHash(board), currentRow - 1, 1);
             }
@@ -81,14 +86,7 @@ public class HistoryPanel extends JPanel {
      */
     private String calculateCheckStHash(final Board board)
     {
-        if(board.getCurrentPlayer().isMated())
-        {
-            return "#";
-        } else if(board.getCurrentPlayer().isInCheck())
-        {
-            return "+";
-        }
-        return "";
+        return board.getGameStatus().getNotation();
     }
 
     /**
@@ -6,6 +6,7 @@ package chess.gui;
 
 import chess.logic.board.Board;
 import chess.logic.board.BoardData;
+import chess.logic.board.GameRecord;
 import chess.logic.board.Move;
 import chess.logic.board.Square;
 import chess.logic.pieces.Piece;
@@ -214,31 +215,32 @@ public class Table {
      * Represents the move log of the game.
      */
     public static class Movelog {
-        private final List<Move> moves;// List of moves made in the game
+        private final GameRecord record;// Codes of the moves made in the game, holding no board
 
         Movelog()
         {
-            this.moves = new ArrayList<>();
+            this.record = new GameRecord();
         }
 
         /**
-         * Gets the list of moves in the move log.
+         * Gets the record of the moves in the move log.
          *
-         * @return the list of moves
+         * @return the game record
          */
-        public List<Move> getMoves()
+        public GameRecord getRecord()
         {
-            return this.moves;
+            return this.record;
         }
 
         /**
          * Adds a move to the move log.
+         * Only the move code is kept, so the board the move was made on is not retained.
          *
          * @param move the move to add
          */
         public void addMove(final Move move)
         {
-            this.moves.add(move);
+            this.record.add(move);
         }
 
         /**
@@ -248,7 +250,7 @@ public class Table {
          */
         public int size()
         {
-            return this.moves.size();
+            return this.record.size();
         }
 
         /**
@@ -256,29 +258,18 @@ public class Table {
          */
         public void clear()
         {
-            this.moves.clear();
+            this.record.clear();
         }
 
         /**
          * Removes a move from the move log at the specified index.
          *
          * @param index the index of the move to remove
-         * @return the removed move
+         * @return the code of the removed move
          */
-        public Move removeMove(int index)
+        public int removeMove(int index)
         {
-            return this.moves.remove(index);
-        }
-
-        /**
-         * Removes a specific move from the move log.
-         *
-         * @param move the move to remove
-         * @return true if the move was successfully removed, false otherwise
-         */
-        public boolean removeMove(final Move move)
-        {
-            return this.moves.remove(move);
+            return this.record.remove(index);
         }
     }
 
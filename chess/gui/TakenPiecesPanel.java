@@ -1,6 +1,8 @@
 package chess.gui;
 
-import chess.logic.board.Move;
+import chess.logic.board.BitBoard;
+import chess.logic.board.GameRecord;
+import chess.logic.board.MoveCode;
 import chess.logic.pieces.Piece;
 
 import javax.imageio.ImageIO;
@@ -54,37 +56,39 @@ public class TakenPiecesPanel extends JPanel {
         this.northPanel.removeAll();
 
         // Lists to store taken pieces
-        final List<Piece> wTakenPieces = new ArrayList<>();
-        final List<Piece> bTakenPieces = new ArrayList<>();
+        final List<Piece.PieceType> wTakenPieces = new ArrayList<>();
+        final List<Piece.PieceType> bTakenPieces = new ArrayList<>();
 
         // Iterate through the moves in the MoveLog
-        for(final Move move : movelog.getMoves())
+        final GameRecord record = movelog.getRecord();
+        for(int ply = 0; ply < record.size(); ++ply)
         {
+            final int move = record.get(ply);
             // Check if the move is an attack
-            if(move.isAttack())
+            if(MoveCode.isCapture(move))
             {
-                final Piece takenPiece = move.getAttackedPiece();
+                final int takenPiece = MoveCode.capturedPiece(move);
                 // Add the taken piece to the appropriate list based on its color
-                if(takenPiece.getPieceColor().isWhite())
+                if(BitBoard.colorOf(takenPiece).isWhite())
                 {
-                    wTakenPieces.add(takenPiece);
+                    wTakenPieces.add(BitBoard.typeOf(takenPiece));
                 } else
                 {
-                    bTakenPieces.add(takenPiece);
+                    bTakenPieces.add(BitBoard.typeOf(takenPiece));
                 }
             }
         }
 
         // Sort the taken pieces based on their values
-        wTakenPieces.sort(Comparator.comparingInt(Piece::getPieceValue));
-        bTakenPieces.sort(Comparator.comparingInt(Piece::getPieceValue));
+        wTakenPieces.sort(Comparator.comparingInt(Piece.PieceType::getPieceValue));
+        bTakenPieces.sort(Comparator.comparingInt(Piece.PieceType::getPieceValue));
 
         // Add images of the taken white pieces to the south panel
-        for(final Piece takenPiece : wTakenPieces)
+        for(final Piece.PieceType takenPiece : wTakenPieces)
         {
             try
             {
-                final BufferedImage image = ImageIO.read(new File("images/simple/" + takenPiece.getPieceColor().toString().charAt(0) + takenPiece + ".gif"));
+                final BufferedImage image = ImageIO.read(new File("images/simple/" + chess.Color.WHITE.toString().charAt(0) + takenPiece + ".gif"));
                 final ImageIcon ic = new ImageIcon(image);
                 final JLabel imageLabel = new JLabel(new ImageIcon(ic.getImage().getScaledInstance(ic.getIconWidth() - 15, ic.getIconWidth() - 15, Image.SCALE_SMOOTH)));
                 this.southPanel.add(imageLabel);
@@ -95,11 +99,11 @@ public class TakenPiecesPanel extends JPanel {
         }
 
         // Add images of the taken black pieces to the south panel
-        for(final Piece takenPiece : bTakenPieces)
+        for(final Piece.PieceType takenPiece : bTakenPieces)
         {
             try
             {
-                final BufferedImage image = ImageIO.read(new File("images/simple/" + takenPiece.getPieceColor().toString().charAt(0) + takenPiece + ".gif"));
+                final BufferedImage image = ImageIO.read(new File("images/simple/" + chess.Color.BLACK.toString().charAt(0) + takenPiece + ".gif"));
                 final ImageIcon ic = new ImageIcon(image);
                 final JLabel imageLabel = new JLabel(new ImageIcon(ic.getImage().getScaledInstance(ic.getIconWidth() - 15, ic.getIconWidth() - 15, Image.SCALE_SMOOTH)));
                 this.southPanel.add(imageLabel);
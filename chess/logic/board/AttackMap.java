@@ -0,0 +1,178 @@
+package chess.logic.board;
+
+import chess.Color;
+
+/**
+ * The `AttackMap` class records which squares every piece of a position attacks.
+ * For each side it keeps, per square, the set of pieces attacking the square and their number,
+ * plus the union of all attacked squares. When a move changes some squares, only the pieces standing on them
+ * and the sliders whose rays reach them can attack differently, so only those are taken off the map
+ * before the change and put back after it.
+ */
+public final class AttackMap {
+    private final long[] pieceAttacks; // Squares attacked by the piece standing on every square, 0 if empty
+    private final long[][] attackers; // Pieces of each color attacking every square
+    private final int[][] attackCounts; // Number of pieces of each color attacking every square
+    private final long[] attacked; // Squares attacked by at least one piece of each color
+
+    /**
+     * Constructs the attack map of a position from scratch.
+     *
+     * @param bitBoard the position
+     */
+    AttackMap(final BitBoard bitBoard)
+    {
+        this.pieceAttacks = new long[64];
+        this.attackers = new long[2][64];
+        this.attackCounts = new int[2][64];
+        this.attacked = new long[2];
+        long occupied = bitBoard.occupancy;
+        while(occupied != 0)
+        {
+            addAttacks(bitBoard, BitBoard.firstSquare(occupied));
+            occupied &= occupied - 1;
+        }
+    }
+
+    /**
+     * Takes off the map every piece whose attacks may change when the given squares change.
+     * Must be called while the position still holds the pieces from before the change.
+     *
+     * @param bitBoard the position before the change
+     * @param changed  the squares about to be emptied, filled or replaced
+     * @return the squares of the pieces taken off the map, to be passed to attach()
+     */
+    long detach(final BitBoard bitBoard, final long changed)
+    {
+        final long sliders = bitBoard.getSliders();
+        long detached = changed & bitBoard.occupancy;
+        long squares = changed;
+        while(squares != 0)
+        {
+            final int squareCoord = BitBoard.firstSquare(squares);
+            detached |= (this.attackers[0][squareCoord] | this.attackers[1][squareCoord]) & sliders;
+            squares &= squares - 1;
+        }
+        squares = detached;
+        while(squares != 0)
+        {
+            removeAttacks(bitBoard, BitBoard.firstSquare(squares));
+            squares &= squares - 1;
+        }
+        return detached;
+    }
+
+    /**
+     * Puts back on the map the pieces taken off by detach(), once the change is made.
+     * Sliders that did not move are added back on their squares, and whatever now stands on a changed square is added.
+     *
+     * @param bitBoard the position after the change
+     * @param detached the squares returned by detach()
+     * @param changed  the squares passed to detach()
+     */
+    void attach(final BitBoard bitBoard, final long detached, final long changed)
+    {
+        long squares = (detached & ~changed) | (changed & bitBoard.occupancy);
+        while(squares != 0)
+        {
+            addAttacks(bitBoard, BitBoard.firstSquare(squares));
+            squares &= squares - 1;
+        }
+    }
+
+    /**
+     * Adds the attacks of the piece standing on a square.
+     *
+     * @param bitBoard    the position
+     * @param squareCoord the square of the piece
+     */
+    private void addAttacks(final BitBoard bitBoard, final int squareCoord)
+    {
+        final int pieceCode = bitBoard.getPieceCode(squareCoord);
+        final int color = pieceCode / 6;
+        final long pieceMask = BitBoard.squareMask(squareCoord);
+        final long attacks = BitBoard.attacksFrom(pieceCode, squareCoord, bitBoard.occupancy);
+        this.pieceAttacks[squareCoord] = attacks;
+        long targets = attacks;
+        while(targets != 0)
+        {
+            final int target = BitBoard.firstSquare(targets);
+            this.attackers[color][target] |= pieceMask;
+            if(this.attackCounts[color][target]++ == 0)
+            {
+                this.attacked[color] |= BitBoard.squareMask(target);
+            }
+            targets &= targets - 1;
+        }
+    }
+
+    /**
+     * Removes the attacks recorded for the piece standing on a square.
+     *
+     * @param bitBoard    the position, still holding the piece
+     * @param squareCoord the square of the piece
+     */
+    private void removeAttacks(final BitBoard bitBoard, final int squareCoord)
+    {
+        final int color = bitBoard.getPieceCode(squareCoord) / 6;
+        final long pieceMask = ~BitBoard.squareMask(squareCoord);
+        long targets = this.pieceAttacks[squareCoord];
+        while(targets != 0)
+        {
+            final int target = BitBoard.firstSquare(targets);
+            this.attackers[color][target] &= pieceMask;
+            if(--this.attackCounts[color][target] == 0)
+            {
+                this.attacked[color] &= ~BitBoard.squareMask(target);
+            }
+            targets &= targets - 1;
+        }
+        this.pieceAttacks[squareCoord] = 0L;
+    }
+
+    /**
+     * Retrieves every square attacked by at least one piece of a color.
+     *
+     * @param color the color of the attacking pieces
+     * @return the set of attacked squares
+     */
+    public long attacksOf(final Color color)
+    {
+        return this.attacked[color.ordinal()];
+    }
+
+    /**
+     * Retrieves the pieces of a color attacking a square.
+     *
+     * @param color       the color of the attacking pieces
+     * @param squareCoord the coordinate of the square
+     * @return the set of squares holding attacking pieces
+     */
+    public long attackersOf(final Color color, final int squareCoord)
+    {
+        return this.attackers[color.ordinal()][squareCoord];
+    }
+
+    /**
+     * Retrieves the number of pieces of a color attacking a square.
+     *
+     * @param color       the color of the attacking pieces
+     * @param squareCoord the coordinate of the square
+     * @return the number of attackers
+     */
+    public int attackCount(final Color color, final int squareCoord)
+    {
+        return this.attackCounts[color.ordinal()][squareCoord];
+    }
+
+    /**
+     * Retrieves the squares attacked by the piece standing on a square.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return the set of attacked squares, empty if no piece stands on the square
+     */
+    public long pieceAttacks(final int squareCoord)
+    {
+        return this.pieceAttacks[squareCoord];
+    }
+}
@@ -0,0 +1,461 @@
+package chess.logic.board;
+
+import chess.Color;
+import chess.logic.pieces.Piece;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard representation of a chess position.
+ * Keeps one 64-bit set per piece type and color plus occupancy masks for each side and for the whole board.
+ * Bit n of every set stands for square n, using the same numbering as the rest of the board (0 = a8, 63 = h1).
+ */
+public final class BitBoard {
+    /**
+     * Piece code stored in the mailbox for an empty square.
+     */
+    public static final int EMPTY = -1;
+    /**
+     * Castling right bits, one per side of the board and color.
+     */
+    public static final int WHITE_SHORT_CASTLE = 1;
+    public static final int WHITE_LONG_CASTLE = 2;
+    public static final int BLACK_SHORT_CASTLE = 4;
+    public static final int BLACK_LONG_CASTLE = 8;
+
+    /**
+     * Castling rights kept when a piece leaves or lands on each square.
+     * Moving from or onto a king or rook starting square removes the rights depending on that piece.
+     */
+    static final int[] CASTLING_MASK = initCastlingMask();
+
+    /**
+     * The squares of persistent positions are stored in chunks of 16, a quarter of the board, so copies of a position
+     * can share the chunks a move does not touch. A chunk is copied the first time a shared one is written to.
+     * Positions changed in place keep a flat mailbox of their own instead, see BitBoard(BitBoard, boolean).
+     */
+    static final int CHUNK_SHIFT = 4;
+    static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    static final int CHUNKS = 64 >> CHUNK_SHIFT;
+    static final int ALL_CHUNKS = (1 << CHUNKS) - 1;
+
+    private static final Color[] COLORS = Color.values();
+    private static final Piece.PieceType[] PIECE_TYPES = Piece.PieceType.values();
+
+    final long[] pieceBoards; // one set per piece code, see pieceCode()
+    final long[] colorBoards; // occupancy of each color, indexed by Color.ordinal()
+    long occupancy; // occupancy of both colors
+    private final int[] mailbox; // piece code standing on every square, EMPTY if none, null if kept in chunks
+    private final int[][] chunks; // the same mailbox in chunks, see CHUNK_SHIFT, null if kept flat
+    private int ownedChunks; // bit n set if chunk n belongs to this position alone and can be written in place
+    Color sideToMove; // color of the player to make the next move
+    int castlingRights; // combination of the castling right bits
+    int enPassantCoord; // square a pawn can capture en passant onto, -1 if none
+    long zobristKey; // hash key of the position, see Zobrist
+
+    /**
+     * Constructs an empty bitboard position, its mailbox kept in chunks.
+     */
+    BitBoard()
+    {
+        this.pieceBoards = new long[12];
+        this.colorBoards = new long[2];
+        this.occupancy = 0L;
+        this.mailbox = null;
+        this.chunks = new int[CHUNKS][1 << CHUNK_SHIFT];
+        for(final int[] chunk : this.chunks)
+        {
+            Arrays.fill(chunk, EMPTY);
+        }
+        this.ownedChunks = ALL_CHUNKS;
+        this.sideToMove = Color.WHITE;
+        this.castlingRights = 0;
+        this.enPassantCoord = -1;
+        this.zobristKey = 0L;
+    }
+
+    /**
+     * Constructs a copy of the given bitboard position sharing its mailbox chunks, see BitBoard(BitBoard, boolean).
+     *
+     * @param other the position to copy, its mailbox kept in chunks
+     */
+    BitBoard(final BitBoard other)
+    {
+        this(other, false);
+    }
+
+    /**
+     * Constructs a copy of the given bitboard position.
+     * A flat copy gets a mailbox of its own, read and written without the chunk lookup, for positions changed in place
+     * move after move. Otherwise the mailbox chunks are shared with the original rather than copied, and the copy
+     * copies a chunk before writing to it, so it costs the piece sets and four references whatever the number
+     * of pieces. The original is never written to: a position whose chunks are shared must not own any of them,
+     * see disownChunks().
+     *
+     * @param other the position to copy
+     * @param flat  true to copy the mailbox into a flat one, false to share its chunks
+     */
+    BitBoard(final BitBoard other, final boolean flat)
+    {
+        this.pieceBoards = other.pieceBoards.clone();
+        this.colorBoards = other.colorBoards.clone();
+        this.occupancy = other.occupancy;
+        if(flat)
+        {
+            this.mailbox = new int[64];
+            for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+            {
+                this.mailbox[squareCoord] = other.getPieceCode(squareCoord);
+            }
+            this.chunks = null;
+        } else
+        {
+            this.mailbox = null;
+            this.chunks = other.chunks.clone();
+        }
+        this.ownedChunks = 0;
+        this.sideToMove = other.sideToMove;
+        this.castlingRights = other.castlingRights;
+        this.enPassantCoord = other.enPassantCoord;
+        this.zobristKey = other.zobristKey;
+    }
+
+    /**
+     * Initializes the castling rights mask of every square.
+     *
+     * @return the castling rights kept for every square
+     */
+    private static int[] initCastlingMask()
+    {
+        final int[] castlingMask = new int[64];
+        Arrays.fill(castlingMask, WHITE_SHORT_CASTLE | WHITE_LONG_CASTLE | BLACK_SHORT_CASTLE | BLACK_LONG_CASTLE);
+        castlingMask[60] &= ~(WHITE_SHORT_CASTLE | WHITE_LONG_CASTLE);
+        castlingMask[63] &= ~WHITE_SHORT_CASTLE;
+        castlingMask[56] &= ~WHITE_LONG_CASTLE;
+        castlingMask[4] &= ~(BLACK_SHORT_CASTLE | BLACK_LONG_CASTLE);
+        castlingMask[7] &= ~BLACK_SHORT_CASTLE;
+        castlingMask[0] &= ~BLACK_LONG_CASTLE;
+        return castlingMask;
+    }
+
+    /**
+     * Computes the compact code of a piece of the given color and type.
+     * Codes run from 0 to 11, white pieces first, in PieceType order.
+     *
+     * @param color the color of the piece
+     * @param type  the type of the piece
+     * @return the piece code
+     */
+    public static int pieceCode(final Color color, final Piece.PieceType type)
+    {
+        return color.ordinal() * 6 + type.ordinal();
+    }
+
+    /**
+     * Computes the compact code of the given piece.
+     *
+     * @param piece the piece
+     * @return the piece code
+     */
+    public static int pieceCode(final Piece piece)
+    {
+        return pieceCode(piece.getPieceColor(), piece.getPieceType());
+    }
+
+    /**
+     * Retrieves the color encoded in a piece code.
+     *
+     * @param pieceCode the piece code
+     * @return the color of the piece
+     */
+    public static Color colorOf(final int pieceCode)
+    {
+        return COLORS[pieceCode / 6];
+    }
+
+    /**
+     * Retrieves the piece type encoded in a piece code.
+     *
+     * @param pieceCode the piece code
+     * @return the type of the piece
+     */
+    public static Piece.PieceType typeOf(final int pieceCode)
+    {
+        return PIECE_TYPES[pieceCode % 6];
+    }
+
+    /**
+     * Returns the set containing only the given square.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return the single-square set
+     */
+    public static long squareMask(final int squareCoord)
+    {
+        return 1L << squareCoord;
+    }
+
+    /**
+     * Returns the lowest square contained in a non-empty set.
+     *
+     * @param bits the set of squares
+     * @return the coordinate of the lowest square
+     */
+    public static int firstSquare(final long bits)
+    {
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Places a piece on an empty square.
+     *
+     * @param pieceCode   the code of the piece
+     * @param squareCoord the coordinate of the square
+     */
+    void putPiece(final int pieceCode, final int squareCoord)
+    {
+        final long mask = 1L << squareCoord;
+        this.pieceBoards[pieceCode] |= mask;
+        this.colorBoards[pieceCode / 6] |= mask;
+        this.occupancy |= mask;
+        setPieceCode(squareCoord, pieceCode);
+    }
+
+    /**
+     * Removes the piece standing on an occupied square.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return the code of the removed piece
+     */
+    int removePiece(final int squareCoord)
+    {
+        final int pieceCode = getPieceCode(squareCoord);
+        final long mask = ~(1L << squareCoord);
+        this.pieceBoards[pieceCode] &= mask;
+        this.colorBoards[pieceCode / 6] &= mask;
+        this.occupancy &= mask;
+        setPieceCode(squareCoord, EMPTY);
+        return pieceCode;
+    }
+
+    /**
+     * Writes the piece code of a square, first copying its mailbox chunk if it is shared with another position.
+     *
+     * @param squareCoord the coordinate of the square
+     * @param pieceCode   the piece code, EMPTY for an empty square
+     */
+    private void setPieceCode(final int squareCoord, final int pieceCode)
+    {
+        if(this.mailbox != null)
+        {
+            this.mailbox[squareCoord] = pieceCode;
+            return;
+        }
+        final int chunk = squareCoord >>> CHUNK_SHIFT;
+        if((this.ownedChunks & (1 << chunk)) == 0)
+        {
+            this.chunks[chunk] = this.chunks[chunk].clone();
+            this.ownedChunks |= 1 << chunk;
+        }
+        this.chunks[chunk][squareCoord & CHUNK_MASK] = pieceCode;
+    }
+
+    /**
+     * Gives up the mailbox chunks of the position, so that it copies them before writing to them again.
+     * Called before the chunks are shared with a position that is never changed, such as the one of a Board.
+     */
+    void disownChunks()
+    {
+        this.ownedChunks = 0;
+    }
+
+    /**
+     * Computes the squares attacked by a piece standing on a square.
+     * Pawns attack diagonally forward only; their pushes are not attacks.
+     *
+     * @param pieceCode   the code of the piece
+     * @param squareCoord the coordinate of the square
+     * @param occupied    the occupied squares blocking sliding pieces
+     * @return the set of attacked squares
+     */
+    public static long attacksFrom(final int pieceCode, final int squareCoord, final long occupied)
+    {
+        return switch(PIECE_TYPES[pieceCode % 6])
+        {
+            case KING -> BoardData.KING_ATTACKS[squareCoord];
+            case QUEEN -> Magic.queenAttacks(squareCoord, occupied);
+            case ROOK -> Magic.rookAttacks(squareCoord, occupied);
+            case BISHOP -> Magic.bishopAttacks(squareCoord, occupied);
+            case KNIGHT -> BoardData.KNIGHT_ATTACKS[squareCoord];
+            case PAWN -> BoardData.PAWN_ATTACKS[pieceCode / 6][squareCoord];
+        };
+    }
+
+    /**
+     * Computes the pieces of a color attacking a square, looking outwards from the square:
+     * a piece attacks the square if the same piece standing on the square would attack it back.
+     * Pawns are the exception, their attacks are looked up with the opposite color.
+     *
+     * @param squareCoord the coordinate of the attacked square
+     * @param attacker    the color of the attacking pieces
+     * @param occupied    the occupied squares blocking sliding pieces
+     * @return the set of attacking pieces
+     */
+    public long attackersTo(final int squareCoord, final Color attacker, final long occupied)
+    {
+        final int base = attacker.ordinal() * 6;
+        final long queens = this.pieceBoards[base + Piece.PieceType.QUEEN.ordinal()];
+        return (BoardData.PAWN_ATTACKS[1 - attacker.ordinal()][squareCoord] & this.pieceBoards[base + Piece.PieceType.PAWN.ordinal()])
+                | (BoardData.KNIGHT_ATTACKS[squareCoord] & this.pieceBoards[base + Piece.PieceType.KNIGHT.ordinal()])
+                | (BoardData.KING_ATTACKS[squareCoord] & this.pieceBoards[base + Piece.PieceType.KING.ordinal()])
+                | (Magic.rookAttacks(squareCoord, occupied) & (this.pieceBoards[base + Piece.PieceType.ROOK.ordinal()] | queens))
+                | (Magic.bishopAttacks(squareCoord, occupied) & (this.pieceBoards[base + Piece.PieceType.BISHOP.ordinal()] | queens));
+    }
+
+    /**
+     * Computes the pieces of a color attacking a square in this position.
+     *
+     * @param squareCoord the coordinate of the attacked square
+     * @param attacker    the color of the attacking pieces
+     * @return the set of attacking pieces
+     */
+    public long attackersTo(final int squareCoord, final Color attacker)
+    {
+        return attackersTo(squareCoord, attacker, this.occupancy);
+    }
+
+    /**
+     * Checks if any piece of a color attacks a square in this position.
+     *
+     * @param squareCoord the coordinate of the square
+     * @param attacker    the color of the attacking pieces
+     * @return true if the square is attacked, false otherwise
+     */
+    public boolean isSquareAttacked(final int squareCoord, final Color attacker)
+    {
+        return attackersTo(squareCoord, attacker, this.occupancy) != 0;
+    }
+
+    /**
+     * Retrieves the set of squares holding pieces of the given color and type.
+     *
+     * @param color the color of the pieces
+     * @param type  the type of the pieces
+     * @return the set of squares
+     */
+    public long getPieces(final Color color, final Piece.PieceType type)
+    {
+        return this.pieceBoards[pieceCode(color, type)];
+    }
+
+    /**
+     * Retrieves the set of squares holding pieces with the given code.
+     *
+     * @param pieceCode the piece code
+     * @return the set of squares
+     */
+    public long getPieces(final int pieceCode)
+    {
+        return this.pieceBoards[pieceCode];
+    }
+
+    /**
+     * Retrieves the squares holding sliding pieces (queens, rooks and bishops) of either color.
+     *
+     * @return the set of squares
+     */
+    public long getSliders()
+    {
+        long sliders = 0L;
+        for(int base = 0; base < 12; base += 6)
+        {
+            sliders |= this.pieceBoards[base + Piece.PieceType.QUEEN.ordinal()] | this.pieceBoards[base + Piece.PieceType.ROOK.ordinal()]
+                    | this.pieceBoards[base + Piece.PieceType.BISHOP.ordinal()];
+        }
+        return sliders;
+    }
+
+    /**
+     * Retrieves the set of squares occupied by the given color.
+     *
+     * @param color the color
+     * @return the set of occupied squares
+     */
+    public long getOccupancy(final Color color)
+    {
+        return this.colorBoards[color.ordinal()];
+    }
+
+    /**
+     * Retrieves the set of squares occupied by either color.
+     *
+     * @return the set of occupied squares
+     */
+    public long getOccupancy()
+    {
+        return this.occupancy;
+    }
+
+    /**
+     * Retrieves the code of the piece standing on a square.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return the piece code, or EMPTY if the square is empty
+     */
+    public int getPieceCode(final int squareCoord)
+    {
+        final int[] mailbox = this.mailbox;
+        return mailbox != null ? mailbox[squareCoord] : this.chunks[squareCoord >>> CHUNK_SHIFT][squareCoord & CHUNK_MASK];
+    }
+
+    /**
+     * Checks if a square is occupied.
+     *
+     * @param squareCoord the coordinate of the square
+     * @return true if a piece stands on the square, false otherwise
+     */
+    public boolean isOccupied(final int squareCoord)
+    {
+        return (this.occupancy & (1L << squareCoord)) != 0;
+    }
+
+    /**
+     * Retrieves the color of the player to make the next move.
+     *
+     * @return the side to move
+     */
+    public Color getSideToMove()
+    {
+        return this.sideToMove;
+    }
+
+    /**
+     * Retrieves the castling rights still available in the position.
+     *
+     * @return a combination of the castling right bits
+     */
+    public int getCastlingRights()
+    {
+        return this.castlingRights;
+    }
+
+    /**
+     * Retrieves the square a pawn can capture en passant onto.
+     *
+     * @return the en passant square, or -1 if the last move was not a pawn jump
+     */
+    public int getEnPassantCoord()
+    {
+        return this.enPassantCoord;
+    }
+
+    /**
+     * Retrieves the Zobrist hash key of the position.
+     *
+     * @return the position key
+     */
+    public long getZobristKey()
+    {
+        return this.zobristKey;
+    }
+}
@@ -32,6 +32,60 @@ public class BoardData {
     public static final boolean[] SECOND_RANK = initRow(48);
     public static final boolean[] FIRST_RANK = initRow(56);
 
+    /**
+     * The square offsets of the eight ray directions. Directions 0 to 3 move towards lower coordinates
+     * (towards the eighth rank or the first column), directions 4 to 7 towards higher ones.
+     */
+    public static final int[] DIRECTION_OFFSETS = {-9, -8, -7, -1, 1, 7, 8, 9};
+    /**
+     * The 10x12 padded mailbox: the board surrounded by two rows and one column of off-board squares on every side.
+     * Every entry holds the square it stands for, or -1 for an off-board square, so a step that leaves the board
+     * lands on a -1 whatever edge it crosses and is detected with a single lookup.
+     */
+    private static final int[] MAILBOX_120 = initMailbox120();
+    /**
+     * The index of every square in MAILBOX_120.
+     */
+    private static final int[] MAILBOX_64 = initMailbox64();
+    /**
+     * The offsets of the eight ray directions in MAILBOX_120, in the same order as DIRECTION_OFFSETS.
+     */
+    private static final int[] PADDED_DIRECTION_OFFSETS = {-11, -10, -9, -1, 1, 9, 10, 11};
+    /**
+     * The directions a rook slides along, as indices into DIRECTION_OFFSETS.
+     */
+    public static final int[] ROOK_DIRECTIONS = {1, 3, 4, 6};
+    /**
+     * The directions a bishop slides along, as indices into DIRECTION_OFFSETS.
+     */
+    public static final int[] BISHOP_DIRECTIONS = {0, 2, 5, 7};
+
+    /**
+     * The squares a knight attacks from every square.
+     */
+    public static final long[] KNIGHT_ATTACKS = initStepAttacks(new int[]{-21, -19, -12, -8, 8, 12, 19, 21});
+    /**
+     * The squares a king attacks from every square.
+     */
+    public static final long[] KING_ATTACKS = initStepAttacks(PADDED_DIRECTION_OFFSETS);
+    /**
+     * The squares a pawn attacks from every square, indexed by the ordinal of its color.
+     */
+    public static final long[][] PAWN_ATTACKS = {initStepAttacks(new int[]{-11, -9}), initStepAttacks(new int[]{9, 11})};
+    /**
+     * The squares of the ray leaving every square in every direction, up to the edge of the board,
+     * indexed by direction then square.
+     */
+    public static final long[][] RAYS = initRays();
+    /**
+     * The squares strictly between two squares on the same rank, column or diagonal, empty for unaligned squares.
+     */
+    public static final long[][] BETWEEN = initBetween();
+    /**
+     * The whole rank, column or diagonal going through two aligned squares, empty for unaligned squares.
+     */
+    public static final long[][] LINE = initLine();
+
     /**
      * An array representing the algebraic notation of all squares on the board.
      */
@@ -137,4 +191,181 @@ public class BoardData {
         } while(rowNum % 8 != 0);
         return row;
     }
+
+    /**
+     * Initializes the padded mailbox.
+     *
+     * @return The square of every padded index, -1 off the board.
+     */
+    private static int[] initMailbox120()
+    {
+        final int[] mailbox = new int[120];
+        for(int index = 0; index < 120; ++index)
+        {
+            final int row = index / 10 - 2;
+            final int col = index % 10 - 1;
+            mailbox[index] = row >= 0 && row < 8 && col >= 0 && col < 8 ? row * 8 + col : -1;
+        }
+        return mailbox;
+    }
+
+    /**
+     * Initializes the padded index of every square.
+     *
+     * @return The index in MAILBOX_120 of every square.
+     */
+    private static int[] initMailbox64()
+    {
+        final int[] mailbox = new int[64];
+        for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+        {
+            mailbox[squareCoord] = (squareCoord / 8 + 2) * 10 + squareCoord % 8 + 1;
+        }
+        return mailbox;
+    }
+
+    /**
+     * Steps from a square by an offset of the padded mailbox.
+     *
+     * @param from         The origin square.
+     * @param paddedOffset The step, in MAILBOX_120 units.
+     * @return The square reached, or -1 if the step leaves the board.
+     */
+    private static int paddedStep(final int from, final int paddedOffset)
+    {
+        return MAILBOX_120[MAILBOX_64[from] + paddedOffset];
+    }
+
+    /**
+     * Initializes the attack sets of a piece moving by single steps.
+     *
+     * @param paddedOffsets The steps of the piece, in MAILBOX_120 units.
+     * @return The set of attacked squares for every square.
+     */
+    private static long[] initStepAttacks(final int[] paddedOffsets)
+    {
+        final long[] attacks = new long[64];
+        for(int from = 0; from < 64; ++from)
+        {
+            for(final int offset : paddedOffsets)
+            {
+                final int to = paddedStep(from, offset);
+                if(to != -1)
+                {
+                    attacks[from] |= 1L << to;
+                }
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Initializes the rays leaving every square in every direction.
+     * Each ray is walked on the padded mailbox until it reaches an off-board square.
+     *
+     * @return The rays, indexed by direction then square.
+     */
+    private static long[][] initRays()
+    {
+        final long[][] rays = new long[8][64];
+        for(int direction = 0; direction < 8; ++direction)
+        {
+            final int offset = PADDED_DIRECTION_OFFSETS[direction];
+            for(int from = 0; from < 64; ++from)
+            {
+                for(int current = paddedStep(from, offset); current != -1; current = paddedStep(current, offset))
+                {
+                    rays[direction][from] |= 1L << current;
+                }
+            }
+        }
+        return rays;
+    }
+
+    /**
+     * Initializes the squares between every pair of aligned squares.
+     *
+     * @return The between sets, indexed by both squares.
+     */
+    private static long[][] initBetween()
+    {
+        final long[][] between = new long[64][64];
+        for(int from = 0; from < 64; ++from)
+        {
+            for(int direction = 0; direction < 8; ++direction)
+            {
+                long ray = RAYS[direction][from];
+                while(ray != 0)
+                {
+                    final int to = Long.numberOfTrailingZeros(ray);
+                    between[from][to] = RAYS[direction][from] & ~RAYS[direction][to] & ~(1L << to);
+                    ray &= ray - 1;
+                }
+            }
+        }
+        return between;
+    }
+
+    /**
+     * Initializes the full lines through every pair of aligned squares.
+     *
+     * @return The line sets, indexed by both squares.
+     */
+    private static long[][] initLine()
+    {
+        final long[][] line = new long[64][64];
+        for(int from = 0; from < 64; ++from)
+        {
+            for(int direction = 0; direction < 8; ++direction)
+            {
+                final long fullLine = RAYS[direction][from] | RAYS[7 - direction][from] | (1L << from);
+                long ray = RAYS[direction][from];
+                while(ray != 0)
+                {
+                    line[from][Long.numberOfTrailingZeros(ray)] = fullLine;
+                    ray &= ray - 1;
+                }
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Computes the squares a sliding piece reaches along one direction, given the occupied squares.
+     * The ray stops at the first occupied square, which is included.
+     *
+     * @param direction The direction, as an index into DIRECTION_OFFSETS.
+     * @param from      The square of the piece.
+     * @param occupancy The occupied squares.
+     * @return The reached squares.
+     */
+    public static long rayAttacks(final int direction, final int from, final long occupancy)
+    {
+        final long ray = RAYS[direction][from];
+        final long blockers = ray & occupancy;
+        if(blockers == 0)
+        {
+            return ray;
+        }
+        final int blocker = direction >= 4 ? Long.numberOfTrailingZeros(blockers) : 63 - Long.numberOfLeadingZeros(blockers);
+        return ray ^ RAYS[direction][blocker];
+    }
+
+    /**
+     * Computes the squares a sliding piece reaches along several directions, given the occupied squares.
+     *
+     * @param directions The directions, as indices into DIRECTION_OFFSETS.
+     * @param from       The square of the piece.
+     * @param occupancy  The occupied squares.
+     * @return The reached squares.
+     */
+    public static long slidingAttacks(final int[] directions, final int from, final long occupancy)
+    {
+        long attacks = 0L;
+        for(final int direction : directions)
+        {
+            attacks |= rayAttacks(direction, from, occupancy);
+        }
+        return attacks;
+    }
 }
@@ -0,0 +1,151 @@
+package chess.logic.board;
+
+import chess.Color;
+import chess.logic.pieces.Piece;
+
+/**
+ * The `CheckInfo` class tells whether a move of the side to move gives check, without making it.
+ * When it is created for a position, it works out once, for every piece type, the squares from which such a piece
+ * would attack the enemy king, and which own pieces are the only blocker between the enemy king and an own slider.
+ * A move then gives check if the moved piece lands on one of its checking squares, or if it leaves the line
+ * of a blocker, uncovering the slider behind it. En passant, castling and promotions change more than one square
+ * and are worked out from the occupancy after the move.
+ */
+public final class CheckInfo {
+    private final BitBoard bitBoard; // The position the moves are made on
+    private final Color color; // The color of the moving side
+    private final int enemyKingCoord; // The square of the king that may be checked
+    private final long[] checkSquares; // Squares a piece of each type gives check from, indexed by PieceType.ordinal()
+    private final long discoveredBlockers; // Own pieces standing alone between the enemy king and an own slider
+
+    /**
+     * Constructs the check information of the moves of the side to move in a position.
+     *
+     * @param bitBoard the position
+     */
+    public CheckInfo(final BitBoard bitBoard)
+    {
+        this.bitBoard = bitBoard;
+        this.color = bitBoard.sideToMove;
+        final Color enemy = this.color.isWhite() ? Color.BLACK : Color.WHITE;
+        this.enemyKingCoord = BitBoard.firstSquare(bitBoard.getPieces(enemy, Piece.PieceType.KING));
+        this.checkSquares = calcCheckSquares(bitBoard, this.enemyKingCoord, enemy);
+        this.discoveredBlockers = calcDiscoveredBlockers(bitBoard, this.enemyKingCoord, this.color);
+    }
+
+    /**
+     * Calculates, for every piece type, the squares from which a piece of the moving side would attack the enemy king.
+     * Attacks are symmetric, so these are the squares the same piece standing on the king square attacks;
+     * pawns are looked up with the color of the king.
+     *
+     * @param bitBoard       the position
+     * @param enemyKingCoord the square of the enemy king
+     * @param enemy          the color of the enemy king
+     * @return the checking squares, indexed by PieceType.ordinal()
+     */
+    private static long[] calcCheckSquares(final BitBoard bitBoard, final int enemyKingCoord, final Color enemy)
+    {
+        final long[] checkSquares = new long[6];
+        final long rookSquares = Magic.rookAttacks(enemyKingCoord, bitBoard.occupancy);
+        final long bishopSquares = Magic.bishopAttacks(enemyKingCoord, bitBoard.occupancy);
+        checkSquares[Piece.PieceType.QUEEN.ordinal()] = rookSquares | bishopSquares;
+        checkSquares[Piece.PieceType.ROOK.ordinal()] = rookSquares;
+        checkSquares[Piece.PieceType.BISHOP.ordinal()] = bishopSquares;
+        checkSquares[Piece.PieceType.KNIGHT.ordinal()] = BoardData.KNIGHT_ATTACKS[enemyKingCoord];
+        checkSquares[Piece.PieceType.PAWN.ordinal()] = BoardData.PAWN_ATTACKS[enemy.ordinal()][enemyKingCoord];
+        return checkSquares;
+    }
+
+    /**
+     * Calculates the own pieces whose move may uncover a check by an own slider.
+     * Own sliders are looked up from the enemy king as if only enemy pieces stood on the board;
+     * a slider with exactly one piece between it and the king is blocked by that piece, which counts if it is an own one.
+     *
+     * @param bitBoard       the position
+     * @param enemyKingCoord the square of the enemy king
+     * @param color          the color of the moving side
+     * @return the set of blockers
+     */
+    private static long calcDiscoveredBlockers(final BitBoard bitBoard, final int enemyKingCoord, final Color color)
+    {
+        final long ownOccupancy = bitBoard.getOccupancy(color);
+        final long enemyOccupancy = bitBoard.occupancy & ~ownOccupancy;
+        final long queens = bitBoard.getPieces(color, Piece.PieceType.QUEEN);
+        long snipers = Magic.rookAttacks(enemyKingCoord, enemyOccupancy) & (bitBoard.getPieces(color, Piece.PieceType.ROOK) | queens);
+        snipers |= Magic.bishopAttacks(enemyKingCoord, enemyOccupancy) & (bitBoard.getPieces(color, Piece.PieceType.BISHOP) | queens);
+        long blockers = 0L;
+        while(snipers != 0)
+        {
+            final long between = BoardData.BETWEEN[enemyKingCoord][BitBoard.firstSquare(snipers)] & bitBoard.occupancy;
+            if(Long.bitCount(between) == 1)
+            {
+                blockers |= between & ownOccupancy;
+            }
+            snipers &= snipers - 1;
+        }
+        return blockers;
+    }
+
+    /**
+     * Checks if a pseudo-legal move of the side to move gives check.
+     *
+     * @param move the move code
+     * @return true if the enemy king is attacked after the move, false otherwise
+     */
+    public boolean givesCheck(final int move)
+    {
+        final int from = MoveCode.from(move);
+        final int to = MoveCode.to(move);
+        final long toMask = BitBoard.squareMask(to);
+        if(!MoveCode.isPromotion(move) && (this.checkSquares[BitBoard.typeOf(MoveCode.movedPiece(move)).ordinal()] & toMask) != 0)
+        {
+            return true;
+        }
+        if((this.discoveredBlockers & BitBoard.squareMask(from)) != 0 && (BoardData.LINE[this.enemyKingCoord][from] & toMask) == 0)
+        {
+            return true;
+        }
+        if(MoveCode.isPromotion(move))
+        {
+            final int promotedCode = BitBoard.pieceCode(this.color, MoveCode.promotionType(move));
+            final long occupied = this.bitBoard.occupancy ^ BitBoard.squareMask(from);
+            return (BitBoard.attacksFrom(promotedCode, to, occupied) & BitBoard.squareMask(this.enemyKingCoord)) != 0;
+        }
+        if((move & MoveCode.EN_PASSANT) != 0)
+        {
+            final long occupied = (this.bitBoard.occupancy ^ BitBoard.squareMask(from) ^ BitBoard.squareMask(MoveCode.captureSquare(move))) | toMask;
+            return isAttackedBySliders(occupied);
+        }
+        if((move & MoveCode.CASTLE) != 0)
+        {
+            final int rookFrom = MoveCode.castlingRookFrom(move);
+            final int rookTo = MoveCode.castlingRookTo(move);
+            final long occupied = (this.bitBoard.occupancy ^ BitBoard.squareMask(from) ^ BitBoard.squareMask(rookFrom)) | toMask | BitBoard.squareMask(rookTo);
+            return (Magic.rookAttacks(rookTo, occupied) & BitBoard.squareMask(this.enemyKingCoord)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if an own slider attacks the enemy king once the occupancy of the board has changed.
+     *
+     * @param occupied the occupied squares after the move
+     * @return true if a rook, bishop or queen of the moving side attacks the enemy king, false otherwise
+     */
+    private boolean isAttackedBySliders(final long occupied)
+    {
+        final long queens = this.bitBoard.getPieces(this.color, Piece.PieceType.QUEEN);
+        return (Magic.rookAttacks(this.enemyKingCoord, occupied) & (this.bitBoard.getPieces(this.color, Piece.PieceType.ROOK) | queens)) != 0
+                || (Magic.bishopAttacks(this.enemyKingCoord, occupied) & (this.bitBoard.getPieces(this.color, Piece.PieceType.BISHOP) | queens)) != 0;
+    }
+
+    /**
+     * Retrieves the own pieces whose move may uncover a check.
+     *
+     * @return the set of discovered check blockers
+     */
+    public long getDiscoveredBlockers()
+    {
+        return this.discoveredBlockers;
+    }
+}
@@ -0,0 +1,470 @@
+package chess.logic.board;
+
+import chess.Color;
+import chess.logic.pieces.Piece;
+
+/**
+ * The `MoveGenerator` class generates the moves of a position as move codes.
+ * It works directly on the bitboard position and appends to a caller-supplied MoveList,
+ * so generating moves allocates nothing. Like the piece generators, it produces pseudo-legal moves:
+ * moves leaving the own king attacked still have to be filtered out.
+ */
+public final class MoveGenerator {
+    private static final long PROMOTION_RANKS = 0xFF000000000000FFL; // The first and eighth ranks
+    private static final Piece.PieceType[] PROMOTION_TYPES = {Piece.PieceType.QUEEN, Piece.PieceType.ROOK, Piece.PieceType.BISHOP, Piece.PieceType.KNIGHT};
+
+    /**
+     * Private constructor to prevent instantiation of the `MoveGenerator` class.
+     */
+    private MoveGenerator()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Generates the moves of the side to move.
+     *
+     * @param bitBoard the position
+     * @param moves    the list receiving the move codes
+     */
+    public static void generateMoves(final BitBoard bitBoard, final MoveList moves)
+    {
+        generateMoves(bitBoard, bitBoard.sideToMove, moves);
+    }
+
+    /**
+     * Generates the moves of the pieces of the given color.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the pieces to move
+     * @param moves    the list receiving the move codes
+     */
+    public static void generateMoves(final BitBoard bitBoard, final Color color, final MoveList moves)
+    {
+        generateMoves(bitBoard, color, -1L, moves);
+    }
+
+    /**
+     * Generates the captures of the pieces of the given color, promotions by capture and en passant included.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the pieces to move
+     * @param moves    the list receiving the move codes
+     */
+    public static void generateCaptures(final BitBoard bitBoard, final Color color, final MoveList moves)
+    {
+        generateMoves(bitBoard, color, bitBoard.colorBoards[1 - color.ordinal()], moves);
+    }
+
+    /**
+     * Generates the moves of the pieces of the given color that capture nothing, promotions by push and castling included.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the pieces to move
+     * @param moves    the list receiving the move codes
+     */
+    public static void generateQuiets(final BitBoard bitBoard, final Color color, final MoveList moves)
+    {
+        generateMoves(bitBoard, color, ~bitBoard.occupancy, moves);
+    }
+
+    /**
+     * Generates the moves of the pieces of the given color landing on a set of squares.
+     * An en passant capture is kept when the square of the captured pawn is in the set.
+     *
+     * @param bitBoard   the position
+     * @param color      the color of the pieces to move
+     * @param targetMask the squares the moves may land on
+     * @param moves      the list receiving the move codes
+     */
+    private static void generateMoves(final BitBoard bitBoard, final Color color, final long targetMask, final MoveList moves)
+    {
+        long pieces = bitBoard.getOccupancy(color);
+        while(pieces != 0)
+        {
+            generatePieceMoves(bitBoard, Long.numberOfTrailingZeros(pieces), targetMask, moves);
+            pieces &= pieces - 1;
+        }
+    }
+
+    /**
+     * Generates the legal moves of the side to move.
+     * The pseudo-legal moves are generated first, then those leaving the own king attacked are dropped
+     * using a LegalMoveFilter, without making any of them.
+     *
+     * @param bitBoard the position
+     * @param moves    the list receiving the move codes
+     */
+    public static void generateLegalMoves(final BitBoard bitBoard, final MoveList moves)
+    {
+        final int start = moves.size();
+        generateMoves(bitBoard, bitBoard.sideToMove, moves);
+        final LegalMoveFilter filter = new LegalMoveFilter(bitBoard, bitBoard.sideToMove);
+        int kept = start;
+        for(int index = start; index < moves.size(); ++index)
+        {
+            final int move = moves.get(index);
+            if(filter.isLegal(move))
+            {
+                moves.set(kept++, move);
+            }
+        }
+        moves.truncate(kept);
+    }
+
+    /**
+     * Generates the moves of the piece standing on a square.
+     * Targets come from the precomputed attack tables and the magic lookups, so no edge of the board has to be tested.
+     *
+     * @param bitBoard the position
+     * @param from     the square of the piece
+     * @param moves    the list receiving the move codes
+     */
+    public static void generatePieceMoves(final BitBoard bitBoard, final int from, final MoveList moves)
+    {
+        generatePieceMoves(bitBoard, from, -1L, moves);
+    }
+
+    /**
+     * Generates the moves of the piece standing on a square that land on a set of squares.
+     *
+     * @param bitBoard   the position
+     * @param from       the square of the piece
+     * @param targetMask the squares the moves may land on
+     * @param moves      the list receiving the move codes
+     */
+    private static void generatePieceMoves(final BitBoard bitBoard, final int from, final long targetMask, final MoveList moves)
+    {
+        final int pieceCode = bitBoard.getPieceCode(from);
+        if(BitBoard.typeOf(pieceCode) == Piece.PieceType.PAWN)
+        {
+            generatePawnMoves(bitBoard, from, pieceCode, targetMask, moves);
+            return;
+        }
+        addMoves(bitBoard, from, pieceCode, pieceTargets(bitBoard, from) & targetMask, moves);
+        if(BitBoard.typeOf(pieceCode) == Piece.PieceType.KING)
+        {
+            long castles = castlingTargets(bitBoard, from) & targetMask;
+            while(castles != 0)
+            {
+                moves.add(MoveCode.encode(from, BitBoard.firstSquare(castles), pieceCode, BitBoard.EMPTY, null, MoveCode.CASTLE));
+                castles &= castles - 1;
+            }
+        }
+    }
+
+    /**
+     * Computes the squares the piece standing on a square can move to, ignoring whether its king is left attacked.
+     * For pawns, these are the push, jump and capture squares; a promotion square counts once.
+     * En passant captures and castling are left out, see enPassantTarget() and castlingTargets().
+     *
+     * @param bitBoard the position
+     * @param from     the square of the piece
+     * @return the set of destination squares
+     */
+    public static long pieceTargets(final BitBoard bitBoard, final int from)
+    {
+        final int pieceCode = bitBoard.getPieceCode(from);
+        final int color = pieceCode / 6;
+        if(BitBoard.typeOf(pieceCode) != Piece.PieceType.PAWN)
+        {
+            return BitBoard.attacksFrom(pieceCode, from, bitBoard.occupancy) & ~bitBoard.colorBoards[color];
+        }
+        final int forward = BitBoard.colorOf(pieceCode).getDirection() * 8;
+        long targets = BoardData.PAWN_ATTACKS[color][from] & bitBoard.colorBoards[1 - color];
+        if(!bitBoard.isOccupied(from + forward))
+        {
+            targets |= BitBoard.squareMask(from + forward);
+            final boolean onStartRank = color == 0 ? BoardData.SECOND_RANK[from] : BoardData.SEVENTH_RANK[from];
+            if(onStartRank && !bitBoard.isOccupied(from + 2 * forward))
+            {
+                targets |= BitBoard.squareMask(from + 2 * forward);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Computes the squares the king standing on a square can castle to.
+     * A side is available while the castling right is kept and every square between the king and the rook is empty;
+     * whether the king crosses an attacked square is left to the legality filter.
+     *
+     * @param bitBoard the position
+     * @param from     the square of the king
+     * @return the set of squares the king lands on when castling, at most one per side
+     */
+    public static long castlingTargets(final BitBoard bitBoard, final int from)
+    {
+        final boolean isWhite = BitBoard.colorOf(bitBoard.getPieceCode(from)).isWhite();
+        final int shortRight = isWhite ? BitBoard.WHITE_SHORT_CASTLE : BitBoard.BLACK_SHORT_CASTLE;
+        final int longRight = isWhite ? BitBoard.WHITE_LONG_CASTLE : BitBoard.BLACK_LONG_CASTLE;
+        long targets = 0L;
+        if((bitBoard.castlingRights & shortRight) != 0 && (BoardData.BETWEEN[from][from + 3] & bitBoard.occupancy) == 0)
+        {
+            targets |= BitBoard.squareMask(from + 2);
+        }
+        if((bitBoard.castlingRights & longRight) != 0 && (BoardData.BETWEEN[from][from - 4] & bitBoard.occupancy) == 0)
+        {
+            targets |= BitBoard.squareMask(from - 2);
+        }
+        return targets;
+    }
+
+    /**
+     * Computes the square the pawn standing on a square can capture en passant onto.
+     * Only the side to move may capture en passant, right after the enemy pawn jumped.
+     *
+     * @param bitBoard the position
+     * @param from     the square of the pawn
+     * @return the en passant square if the pawn attacks it, 0 otherwise
+     */
+    public static long enPassantTarget(final BitBoard bitBoard, final int from)
+    {
+        final int pieceCode = bitBoard.getPieceCode(from);
+        if(bitBoard.enPassantCoord < 0 || BitBoard.colorOf(pieceCode) != bitBoard.sideToMove)
+        {
+            return 0L;
+        }
+        return BoardData.PAWN_ATTACKS[pieceCode / 6][from] & BitBoard.squareMask(bitBoard.enPassantCoord);
+    }
+
+    /**
+     * Checks if the pieces of a color have at least one legal move.
+     * The targets of every piece are restricted with the legality filter and the search stops at the first piece
+     * left with one, so neither move codes nor move objects are created.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the moving side
+     * @param filter   the legality filter of that color in the position
+     * @return true if a legal move exists, false otherwise
+     */
+    public static boolean hasLegalMove(final BitBoard bitBoard, final Color color, final LegalMoveFilter filter)
+    {
+        long pieces = bitBoard.getOccupancy(color);
+        while(pieces != 0)
+        {
+            final int from = BitBoard.firstSquare(pieces);
+            if(filter.legalTargets(from, pieceTargets(bitBoard, from)) != 0 || countSpecialMoves(bitBoard, from, filter) != 0)
+            {
+                return true;
+            }
+            pieces &= pieces - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the legal moves of the side to move, without generating them.
+     *
+     * @param bitBoard the position
+     * @return the number of legal moves
+     */
+    public static int countLegalMoves(final BitBoard bitBoard)
+    {
+        return countLegalMoves(bitBoard, bitBoard.sideToMove, new LegalMoveFilter(bitBoard, bitBoard.sideToMove));
+    }
+
+    /**
+     * Counts the legal moves of the pieces of a color, without generating them.
+     * The legal targets of every piece are worked out as a set and counted with a population count.
+     *
+     * @param bitBoard the position
+     * @param color    the color of the moving side
+     * @param filter   the legality filter of that color in the position
+     * @return the number of legal moves
+     */
+    public static int countLegalMoves(final BitBoard bitBoard, final Color color, final LegalMoveFilter filter)
+    {
+        int count = 0;
+        long pieces = bitBoard.getOccupancy(color);
+        while(pieces != 0)
+        {
+            count += countLegalMoves(bitBoard, BitBoard.firstSquare(pieces), filter);
+            pieces &= pieces - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the legal moves of the piece standing on a square, without generating them.
+     * A pawn reaching the last rank counts four moves, one per promotion type.
+     *
+     * @param bitBoard the position
+     * @param from     the square of the piece
+     * @param filter   the legality filter of the color of the piece in the position
+     * @return the number of legal moves of the piece
+     */
+    public static int countLegalMoves(final BitBoard bitBoard, final int from, final LegalMoveFilter filter)
+    {
+        final long legalTargets = filter.legalTargets(from, pieceTargets(bitBoard, from));
+        int count = Long.bitCount(legalTargets);
+        if(BitBoard.typeOf(bitBoard.getPieceCode(from)) == Piece.PieceType.PAWN)
+        {
+            count += (PROMOTION_TYPES.length - 1) * Long.bitCount(legalTargets & PROMOTION_RANKS);
+        }
+        return count + countSpecialMoves(bitBoard, from, filter);
+    }
+
+    /**
+     * Counts the legal en passant captures or castling moves of the piece standing on a square.
+     * These change more than the origin and destination squares, so each one is tested on its own.
+     *
+     * @param bitBoard the position
+     * @param from     the square of the piece
+     * @param filter   the legality filter of the color of the piece in the position
+     * @return the number of legal en passant captures of a pawn or castling moves of a king, 0 for other pieces
+     */
+    private static int countSpecialMoves(final BitBoard bitBoard, final int from, final LegalMoveFilter filter)
+    {
+        final Piece.PieceType type = BitBoard.typeOf(bitBoard.getPieceCode(from));
+        if(type == Piece.PieceType.PAWN)
+        {
+            return enPassantTarget(bitBoard, from) != 0 && filter.isLegalEnPassant(from, bitBoard.enPassantCoord) ? 1 : 0;
+        }
+        if(type != Piece.PieceType.KING)
+        {
+            return 0;
+        }
+        int count = 0;
+        long castles = castlingTargets(bitBoard, from);
+        while(castles != 0)
+        {
+            count += filter.isLegalCastle(from, BitBoard.firstSquare(castles)) ? 1 : 0;
+            castles &= castles - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a move code is one the generator would produce in the position.
+     * Codes coming from outside the current generation, such as a hash table entry or a killer move recorded
+     * in a sibling node, may belong to another position and have to pass this test before being made.
+     *
+     * @param bitBoard the position
+     * @param move     the move code
+     * @return true if the move is a pseudo-legal move of the side to move, false otherwise
+     */
+    public static boolean isPseudoLegal(final BitBoard bitBoard, final int move)
+    {
+        if(move == MoveCode.NONE)
+        {
+            return false;
+        }
+        final int from = MoveCode.from(move);
+        final int to = MoveCode.to(move);
+        final int pieceCode = MoveCode.movedPiece(move);
+        if(bitBoard.getPieceCode(from) != pieceCode || BitBoard.colorOf(pieceCode) != bitBoard.sideToMove)
+        {
+            return false;
+        }
+        if(MoveCode.isEnPassant(move))
+        {
+            return (enPassantTarget(bitBoard, from) & BitBoard.squareMask(to)) != 0
+                    && move == MoveCode.encode(from, to, pieceCode, bitBoard.getPieceCode(MoveCode.captureSquare(move)), null, MoveCode.EN_PASSANT);
+        }
+        if(MoveCode.isCastle(move))
+        {
+            return BitBoard.typeOf(pieceCode) == Piece.PieceType.KING && (castlingTargets(bitBoard, from) & BitBoard.squareMask(to)) != 0
+                    && move == MoveCode.encode(from, to, pieceCode, BitBoard.EMPTY, null, MoveCode.CASTLE);
+        }
+        if(bitBoard.getPieceCode(to) != MoveCode.capturedPiece(move) || (pieceTargets(bitBoard, from) & BitBoard.squareMask(to)) == 0)
+        {
+            return false;
+        }
+        if(BitBoard.typeOf(pieceCode) != Piece.PieceType.PAWN)
+        {
+            return !MoveCode.isPromotion(move) && !MoveCode.isPawnJump(move);
+        }
+        final Piece.PieceType promotionType = MoveCode.promotionType(move);
+        return (promotionType != null) == bitBoard.sideToMove.isPawnPromotionSquare(to)
+                && promotionType != Piece.PieceType.KING && promotionType != Piece.PieceType.PAWN
+                && MoveCode.isPawnJump(move) == (Math.abs(to - from) == 16);
+    }
+
+    /**
+     * Adds the moves of a piece to every square of a set of targets.
+     *
+     * @param bitBoard  the position
+     * @param from      the origin square
+     * @param pieceCode the code of the moving piece
+     * @param targets   the destination squares, none of them holding a piece of the same color
+     * @param moves     the list receiving the move codes
+     */
+    private static void addMoves(final BitBoard bitBoard, final int from, final int pieceCode, long targets, final MoveList moves)
+    {
+        while(targets != 0)
+        {
+            final int to = Long.numberOfTrailingZeros(targets);
+            moves.add(MoveCode.encode(from, to, pieceCode, bitBoard.getPieceCode(to)));
+            targets &= targets - 1;
+        }
+    }
+
+    /**
+     * Generates the moves of a pawn: single pushes, jumps from the starting rank, diagonal captures and en passant.
+     * Reaching the last rank promotes the pawn to a queen, rook, bishop or knight.
+     *
+     * @param bitBoard   the position
+     * @param from       the square of the pawn
+     * @param pieceCode  the code of the pawn
+     * @param targetMask the squares the moves may land on
+     * @param moves      the list receiving the move codes
+     */
+    private static void generatePawnMoves(final BitBoard bitBoard, final int from, final int pieceCode, final long targetMask, final MoveList moves)
+    {
+        final Color color = BitBoard.colorOf(pieceCode);
+        final int forward = color.getDirection() * 8;
+        final int to = from + forward;
+        if(!bitBoard.isOccupied(to))
+        {
+            if((targetMask & BitBoard.squareMask(to)) != 0)
+            {
+                addPawnMove(from, to, pieceCode, BitBoard.EMPTY, color, moves);
+            }
+            final boolean onStartRank = color.isWhite() ? BoardData.SECOND_RANK[from] : BoardData.SEVENTH_RANK[from];
+            if(onStartRank && !bitBoard.isOccupied(to + forward) && (targetMask & BitBoard.squareMask(to + forward)) != 0)
+            {
+                moves.add(MoveCode.encode(from, to + forward, pieceCode, BitBoard.EMPTY, null, MoveCode.PAWN_JUMP));
+            }
+        }
+        long captures = BoardData.PAWN_ATTACKS[color.ordinal()][from] & bitBoard.colorBoards[1 - color.ordinal()] & targetMask;
+        while(captures != 0)
+        {
+            final int target = Long.numberOfTrailingZeros(captures);
+            addPawnMove(from, target, pieceCode, bitBoard.getPieceCode(target), color, moves);
+            captures &= captures - 1;
+        }
+        if(enPassantTarget(bitBoard, from) != 0)
+        {
+            final int capturedCoord = bitBoard.enPassantCoord - forward;
+            if((targetMask & BitBoard.squareMask(capturedCoord)) != 0)
+            {
+                moves.add(MoveCode.encode(from, bitBoard.enPassantCoord, pieceCode, bitBoard.getPieceCode(capturedCoord), null, MoveCode.EN_PASSANT));
+            }
+        }
+    }
+
+    /**
+     * Adds a pawn move, as four promotions when the pawn reaches the last rank, the queen first.
+     *
+     * @param from         the square of the pawn
+     * @param to           the target square
+     * @param pieceCode    the code of the pawn
+     * @param capturedCode the code of the captured piece, BitBoard.EMPTY if none
+     * @param color        the color of the pawn
+     * @param moves        the list receiving the move codes
+     */
+    private static void addPawnMove(final int from, final int to, final int pieceCode, final int capturedCode, final Color color, final MoveList moves)
+    {
+        if(color.isPawnPromotionSquare(to))
+        {
+            for(final Piece.PieceType promotionType : PROMOTION_TYPES)
+            {
+                moves.add(MoveCode.encode(from, to, pieceCode, capturedCode, promotionType, 0));
+            }
+        } else
+        {
+            moves.add(MoveCode.encode(from, to, pieceCode, capturedCode));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package chess.logic.board;
+
+/**
+ * A reusable buffer of move codes.
+ * Generators append to it instead of allocating a list per call; clearing it only resets its size.
+ */
+public final class MoveList {
+    /**
+     * Maximum number of moves a list can hold, above the largest number of moves a position can have.
+     */
+    public static final int CAPACITY = 256;
+
+    private final int[] moves; // The move codes, see MoveCode
+    private int size; // Number of moves in the list
+
+    /**
+     * Constructs an empty move list.
+     */
+    public MoveList()
+    {
+        this.moves = new int[CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Appends a move to the list.
+     *
+     * @param move the move code
+     */
+    public void add(final int move)
+    {
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * Retrieves the move at the given index.
+     *
+     * @param index the index of the move
+     * @return the move code
+     */
+    public int get(final int index)
+    {
+        return this.moves[index];
+    }
+
+    /**
+     * Replaces the move at the given index.
+     *
+     * @param index the index of the move
+     * @param move  the new move code
+     */
+    public void set(final int index, final int move)
+    {
+        this.moves[index] = move;
+    }
+
+    /**
+     * Exchanges two moves of the list.
+     *
+     * @param first  the index of the first move
+     * @param second the index of the second move
+     */
+    public void swap(final int first, final int second)
+    {
+        final int move = this.moves[first];
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    /**
+     * Retrieves the number of moves in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Checks if the list holds no move.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks if the list holds the given move.
+     *
+     * @param move the move code
+     * @return true if the move is in the list, false otherwise
+     */
+    public boolean contains(final int move)
+    {
+        for(int index = 0; index < this.size; ++index)
+        {
+            if(this.moves[index] == move)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops every move from the given position on, keeping the ones before it.
+     *
+     * @param size the number of moves to keep
+     */
+    public void truncate(final int size)
+    {
+        this.size = size;
+    }
+
+    /**
+     * Removes every move from the list.
+     */
+    public void clear()
+    {
+        this.size = 0;
+    }
+
+    /**
+     * Returns the moves of the list in coordinate notation.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("[");
+        for(int index = 0; index < this.size; ++index)
+        {
+            builder.append(index == 0 ? "" : ", ").append(MoveCode.toString(this.moves[index]));
+        }
+        return builder.append("]").toString();
+    }
+}
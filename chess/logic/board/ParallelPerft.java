@@ -0,0 +1,178 @@
+package chess.logic.board;
+
+import chess.logic.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The `ParallelPerft` class counts the leaf nodes of a move tree on every core, with fork/join tasks.
+ * The root and the SPLIT_PLIES - 1 plies below it are split: one task per legal move, each working on its own
+ * position, forked so that idle workers steal them. Splitting below the root keeps every worker busy even when
+ * a few root moves hold most of the nodes, while stopping after a fixed number of plies bounds the number of tasks
+ * and position copies whatever the depth. Below the split plies, and for subtrees no deeper than SEQUENTIAL_DEPTH,
+ * a task counts its subtree sequentially with Perft. Every task returns its own count and the parent adds them
+ * up on join, so workers share no counter and no position, and the total is exactly the sequential one.
+ */
+public final class ParallelPerft {
+    private static final int SPLIT_PLIES = 2; // Number of plies, from the root of a count, whose nodes are split into tasks
+    private static final int SEQUENTIAL_DEPTH = 3; // Subtrees this shallow or shallower are counted by a single task
+
+    /**
+     * Private constructor to prevent instantiation of the `ParallelPerft` class.
+     */
+    private ParallelPerft()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree of a board, going through the move objects of the players.
+     *
+     * @param pool  the pool running the tasks
+     * @param board the position
+     * @param depth the number of plies to go down, 0 or more
+     * @return the number of leaf nodes
+     */
+    public static long perft(final ForkJoinPool pool, final Board board, final int depth)
+    {
+        return pool.invoke(new BoardTask(board, depth, SPLIT_PLIES));
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree of the position on a search board.
+     *
+     * @param pool  the pool running the tasks
+     * @param board the position, left unchanged on return
+     * @param depth the number of plies to go down, 0 or more
+     * @return the number of leaf nodes
+     */
+    public static long perft(final ForkJoinPool pool, final SearchBoard board, final int depth)
+    {
+        return pool.invoke(new SearchBoardTask(new SearchBoard(board), depth, SPLIT_PLIES));
+    }
+
+    /**
+     * Starts counting the leaf nodes below a board without waiting for the result,
+     * so the subtrees of several positions can be counted at the same time.
+     *
+     * @param pool  the pool running the tasks
+     * @param board the position
+     * @param depth the number of plies to go down, 0 or more
+     * @return the task, whose join() returns the number of leaf nodes
+     */
+    public static ForkJoinTask<Long> submit(final ForkJoinPool pool, final Board board, final int depth)
+    {
+        return pool.submit(new BoardTask(board, depth, SPLIT_PLIES));
+    }
+
+    /**
+     * Starts counting the leaf nodes below the position on a search board without waiting for the result.
+     * The task works on its own copy of the position, so the board may be changed once the method returns.
+     *
+     * @param pool  the pool running the tasks
+     * @param board the position
+     * @param depth the number of plies to go down, 0 or more
+     * @return the task, whose join() returns the number of leaf nodes
+     */
+    public static ForkJoinTask<Long> submit(final ForkJoinPool pool, final SearchBoard board, final int depth)
+    {
+        return pool.submit(new SearchBoardTask(new SearchBoard(board), depth, SPLIT_PLIES));
+    }
+
+    /**
+     * Adds up the counts of subtree tasks once they are all forked.
+     * The first task is run by the calling worker while the others wait to be stolen.
+     *
+     * @param tasks the tasks of the subtrees
+     * @return the sum of their counts
+     */
+    private static long sumOf(final List<? extends RecursiveTask<Long>> tasks)
+    {
+        ForkJoinTask.invokeAll(tasks);
+        long nodes = 0L;
+        for(final RecursiveTask<Long> task : tasks)
+        {
+            nodes += task.join();
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the subtree of a board, every child being a board built by making a move object.
+     * Boards never change once built, so children can be handed to other workers as they are.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private static final class BoardTask extends RecursiveTask<Long> {
+        private final Board board; // The position at the root of the subtree
+        private final int depth; // The number of plies below it
+        private final int splitPlies; // The number of plies, from this node down, still split into tasks
+
+        BoardTask(final Board board, final int depth, final int splitPlies)
+        {
+            this.board = board;
+            this.depth = depth;
+            this.splitPlies = splitPlies;
+        }
+
+        @Override
+        protected Long compute()
+        {
+            if(this.depth <= SEQUENTIAL_DEPTH || this.splitPlies == 0)
+            {
+                return Perft.perft(this.board, this.depth);
+            }
+            final Player player = this.board.getCurrentPlayer();
+            final LegalMoveFilter filter = player.getLegalMoveFilter();
+            final List<BoardTask> children = new ArrayList<>();
+            for(final Move move : player.getLegalMoves())
+            {
+                if(filter.isLegal(move))
+                {
+                    children.add(new BoardTask(move.make(), this.depth - 1, this.splitPlies - 1));
+                }
+            }
+            return sumOf(children);
+        }
+    }
+
+    /**
+     * Counts the subtree of a search board owned by the task.
+     * Every child gets a copy of the position with one move made, since a search board is changed in place.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private static final class SearchBoardTask extends RecursiveTask<Long> {
+        private final SearchBoard board; // The position at the root of the subtree, owned by this task
+        private final int depth; // The number of plies below it
+        private final int splitPlies; // The number of plies, from this node down, still split into tasks
+
+        SearchBoardTask(final SearchBoard board, final int depth, final int splitPlies)
+        {
+            this.board = board;
+            this.depth = depth;
+            this.splitPlies = splitPlies;
+        }
+
+        @Override
+        protected Long compute()
+        {
+            if(this.depth <= SEQUENTIAL_DEPTH || this.splitPlies == 0)
+            {
+                return Perft.perft(this.board, this.depth);
+            }
+            final MoveList moves = new MoveList();
+            this.board.generateLegalMoves(moves);
+            final List<SearchBoardTask> children = new ArrayList<>(moves.size());
+            for(int index = 0; index < moves.size(); ++index)
+            {
+                final SearchBoard child = new SearchBoard(this.board);
+                child.makeMove(moves.get(index));
+                children.add(new SearchBoardTask(child, this.depth - 1, this.splitPlies - 1));
+            }
+            return sumOf(children);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package chess.logic.board;
+
+import chess.Color;
+
+import java.util.Arrays;
+
+/**
+ * Represents a mutable board used while searching the game tree.
+ * Unlike Board, which is rebuilt from scratch for every move, a SearchBoard is updated in place:
+ * makeMove() only touches the squares involved in the move and records what it changed on an undo stack,
+ * so unmakeMove() can restore the previous position without building anything.
+ * The attack map of the position is kept up to date the same way, around every make and unmake.
+ */
+public final class SearchBoard {
+    private final BitBoard bitBoard; // The position, modified in place
+    private final AttackMap attackMap; // Squares attacked by every piece, updated with the position
+    private int[] moveStack; // Code of every made move
+    private int[] stateStack; // Castling rights and en passant square before every move
+    private long[] keyStack; // Zobrist key before every move
+    private int ply; // Number of moves on the undo stack
+
+    /**
+     * Constructs a search board holding the same position as the given board.
+     *
+     * @param board the board to copy the position from
+     */
+    public SearchBoard(final Board board)
+    {
+        this.bitBoard = new BitBoard(board.getBitBoard(), true);
+        this.attackMap = new AttackMap(this.bitBoard);
+        this.moveStack = new int[64];
+        this.stateStack = new int[64];
+        this.keyStack = new long[64];
+        this.ply = 0;
+    }
+
+    /**
+     * Constructs a search board holding the current position of another one, without its undo history.
+     * The position is copied whole, so both boards can then be searched by different threads.
+     *
+     * @param other the search board to copy the position from
+     */
+    public SearchBoard(final SearchBoard other)
+    {
+        this.bitBoard = new BitBoard(other.bitBoard, true);
+        this.attackMap = new AttackMap(this.bitBoard);
+        this.moveStack = new int[64];
+        this.stateStack = new int[64];
+        this.keyStack = new long[64];
+        this.ply = 0;
+    }
+
+    /**
+     * Applies a move object to the position in place.
+     *
+     * @param move the move to make, generated for the current position
+     */
+    public void makeMove(final Move move)
+    {
+        makeMove(MoveCode.encode(move));
+    }
+
+    /**
+     * Applies a move to the position in place.
+     * Only the origin and destination squares are updated, along with the square of a pawn taken en passant
+     * or the two squares of a castling rook, and the Zobrist key is toggled for exactly what changed;
+     * the previous state is pushed on the undo stack.
+     *
+     * @param move the code of the move to make, generated for the current position
+     */
+    public void makeMove(final int move)
+    {
+        final int from = MoveCode.from(move);
+        final int to = MoveCode.to(move);
+        final long changed = changedSquares(move);
+        pushUndo(move);
+        this.bitBoard.zobristKey = Zobrist.keyAfter(this.bitBoard, move);
+        final long detached = this.attackMap.detach(this.bitBoard, changed);
+        this.bitBoard.removePiece(from);
+        if(MoveCode.isCapture(move))
+        {
+            this.bitBoard.removePiece(MoveCode.captureSquare(move));
+        }
+        this.bitBoard.putPiece(MoveCode.placedPiece(move), to);
+        if(MoveCode.isCastle(move))
+        {
+            this.bitBoard.removePiece(MoveCode.castlingRookFrom(move));
+            this.bitBoard.putPiece(MoveCode.castlingRook(move), MoveCode.castlingRookTo(move));
+        }
+        this.attackMap.attach(this.bitBoard, detached, changed);
+        this.bitBoard.castlingRights &= BitBoard.CASTLING_MASK[from] & BitBoard.CASTLING_MASK[to];
+        this.bitBoard.enPassantCoord = MoveCode.isPawnJump(move) ? (from + to) / 2 : -1;
+        this.bitBoard.sideToMove = this.bitBoard.sideToMove.isWhite() ? Color.BLACK : Color.WHITE;
+    }
+
+    /**
+     * Takes back the last move made on this board.
+     *
+     * @throws IllegalStateException if no move is left to take back
+     */
+    public void unmakeMove()
+    {
+        if(this.ply == 0)
+        {
+            throw new IllegalStateException("No move to take back");
+        }
+        --this.ply;
+        final int move = this.moveStack[this.ply];
+        final int from = MoveCode.from(move);
+        final int to = MoveCode.to(move);
+        final long changed = changedSquares(move);
+        final long detached = this.attackMap.detach(this.bitBoard, changed);
+        if(MoveCode.isCastle(move))
+        {
+            this.bitBoard.removePiece(MoveCode.castlingRookTo(move));
+            this.bitBoard.putPiece(MoveCode.castlingRook(move), MoveCode.castlingRookFrom(move));
+        }
+        this.bitBoard.removePiece(to);
+        this.bitBoard.putPiece(MoveCode.movedPiece(move), from);
+        if(MoveCode.isCapture(move))
+        {
+            this.bitBoard.putPiece(MoveCode.capturedPiece(move), MoveCode.captureSquare(move));
+        }
+        this.attackMap.attach(this.bitBoard, detached, changed);
+        this.bitBoard.castlingRights = this.stateStack[this.ply] & 0xF;
+        this.bitBoard.enPassantCoord = (this.stateStack[this.ply] >> 4) - 1;
+        this.bitBoard.zobristKey = this.keyStack[this.ply];
+        this.bitBoard.sideToMove = this.bitBoard.sideToMove.isWhite() ? Color.BLACK : Color.WHITE;
+    }
+
+    /**
+     * Computes the squares whose content a move changes.
+     *
+     * @param move the move code
+     * @return the origin and destination squares, plus the square of a pawn taken en passant or those of a castling rook
+     */
+    private static long changedSquares(final int move)
+    {
+        long changed = BitBoard.squareMask(MoveCode.from(move)) | BitBoard.squareMask(MoveCode.to(move));
+        if(MoveCode.isEnPassant(move))
+        {
+            changed |= BitBoard.squareMask(MoveCode.captureSquare(move));
+        } else if(MoveCode.isCastle(move))
+        {
+            changed |= BitBoard.squareMask(MoveCode.castlingRookFrom(move)) | BitBoard.squareMask(MoveCode.castlingRookTo(move));
+        }
+        return changed;
+    }
+
+    /**
+     * Records a move with the castling rights, en passant square and key of the position before the move.
+     *
+     * @param move the code of the move being made
+     */
+    private void pushUndo(final int move)
+    {
+        if(this.ply == this.moveStack.length)
+        {
+            final int capacity = this.ply * 2;
+            this.moveStack = Arrays.copyOf(this.moveStack, capacity);
+            this.stateStack = Arrays.copyOf(this.stateStack, capacity);
+            this.keyStack = Arrays.copyOf(this.keyStack, capacity);
+        }
+        this.moveStack[this.ply] = move;
+        this.stateStack[this.ply] = this.bitBoard.castlingRights | ((this.bitBoard.enPassantCoord + 1) << 4);
+        this.keyStack[this.ply] = this.bitBoard.zobristKey;
+        ++this.ply;
+    }
+
+    /**
+     * Generates the pseudo-legal moves of the side to move.
+     *
+     * @param moves the list receiving the move codes
+     */
+    public void generateMoves(final MoveList moves)
+    {
+        MoveGenerator.generateMoves(this.bitBoard, moves);
+    }
+
+    /**
+     * Generates the legal moves of the side to move.
+     *
+     * @param moves the list receiving the move codes
+     */
+    public void generateLegalMoves(final MoveList moves)
+    {
+        MoveGenerator.generateLegalMoves(this.bitBoard, moves);
+    }
+
+    /**
+     * Counts the legal moves of the side to move without generating them, as needed at the leaves of a perft.
+     *
+     * @return the number of legal moves
+     */
+    public int legalMoveCount()
+    {
+        return MoveGenerator.countLegalMoves(this.bitBoard);
+    }
+
+    /**
+     * Works out the checking squares and discovered check blockers of the side to move, to test moves with givesCheck().
+     * The result describes the current position only and has to be created again after makeMove() or unmakeMove().
+     *
+     * @return the check information of the current position
+     */
+    public CheckInfo createCheckInfo()
+    {
+        return new CheckInfo(this.bitBoard);
+    }
+
+    /**
+     * Retrieves the bitboard representation of the current position.
+     * The returned object is updated in place by makeMove() and unmakeMove().
+     *
+     * @return the bitboard position
+     */
+    public BitBoard getBitBoard()
+    {
+        return this.bitBoard;
+    }
+
+    /**
+     * Retrieves every square attacked by at least one piece of a color.
+     *
+     * @param color the color of the attacking pieces
+     * @return the set of attacked squares
+     */
+    public long attacksOf(final Color color)
+    {
+        return this.attackMap.attacksOf(color);
+    }
+
+    /**
+     * Retrieves the attack map of the current position.
+     * The returned object is updated in place by makeMove() and unmakeMove().
+     *
+     * @return the attack map
+     */
+    public AttackMap getAttackMap()
+    {
+        return this.attackMap;
+    }
+
+    /**
+     * Retrieves the color of the player to make the next move.
+     *
+     * @return the side to move
+     */
+    public Color getSideToMove()
+    {
+        return this.bitBoard.sideToMove;
+    }
+
+    /**
+     * Retrieves the Zobrist hash key of the current position.
+     *
+     * @return the position key
+     */
+    public long getZobristKey()
+    {
+        return this.bitBoard.zobristKey;
+    }
+
+    /**
+     * Retrieves the number of moves that can be taken back.
+     *
+     * @return the depth of the undo stack
+     */
+    public int getPly()
+    {
+        return this.ply;
+    }
+
+    /**
+     * Returns a string representation of the position in the same format as Board.toString().
+     *
+     * @return a string representation of the position
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        for(int numSquares = 0; numSquares < 64; ++numSquares)
+        {
+            final int pieceCode = this.bitBoard.getPieceCode(numSquares);
+            String squaretxt = "-";
+            if(pieceCode != BitBoard.EMPTY)
+            {
+                squaretxt = BitBoard.typeOf(pieceCode).toString();
+                squaretxt = BitBoard.colorOf(pieceCode).isBlack() ? squaretxt.toLowerCase() : squaretxt;
+            }
+            builder.append(String.format("%3s", squaretxt));
+            if((numSquares + 1) % 8 == 0)
+            {
+                builder.append("\n");
+            }
+        }
+        return builder.toString();
+    }
+}
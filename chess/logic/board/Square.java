@@ -1,9 +1,7 @@
 package chess.logic.board;
 
 import chess.logic.pieces.Piece;
-
-import java.util.Map;
-import java.util.HashMap;
+import chess.logic.pieces.PieceData;
 
 /**
  * Square represents a single square on a chess board.
@@ -40,27 +38,30 @@ public abstract class Square {
      */
     public abstract Piece getPiece();  // returns the piece on the square, null if there is none
 
-    private static final Map<Integer, EmptySquare> ALL_EMPTY_SQUARES = createAllEmptySquares(); //basis for our board
+    private static final EmptySquare[] ALL_EMPTY_SQUARES = createAllEmptySquares(); //basis for our board
+    private static final FullSquare[] ALL_FULL_SQUARES = new FullSquare[PieceData.INSTANCE.getPieceCount()]; //one per canonical piece, filled on first use
 
     /**
      * Creates and initializes all empty squares on the chess board.
-     * Each square is mapped to its corresponding coordinate.
+     * Each square is stored at its coordinate.
      *
-     * @return A map containing all empty squares with their coordinates.
+     * @return An array containing the empty square of every coordinate.
      */
-    private static Map<Integer, EmptySquare> createAllEmptySquares()  //maps the coordinates to the squares
+    private static EmptySquare[] createAllEmptySquares()
     {
-        Map<Integer, EmptySquare> emptySquareMap = new HashMap<>();
+        final EmptySquare[] emptySquares = new EmptySquare[64];
         for(int coord = 0; coord < 64; ++coord)
         {
-            emptySquareMap.put((Integer)coord, new EmptySquare(coord));
-
+            emptySquares[coord] = new EmptySquare(coord);
         }
-        return emptySquareMap;
+        return emptySquares;
     }
 
     /**
-     * Creates a new square with the specified coordinate and piece.
+     * Retrieves the square with the specified coordinate and piece.
+     * Pieces are canonical and always stand on their own coordinate, so there is one full square per piece:
+     * it is created the first time the piece is looked up and shared afterwards.
+     * FullSquare is immutable, so two threads creating the same square at once is harmless.
      *
      * @param squareCoord The coordinate of the square.
      * @param piece       The piece to be placed on the square, or null if the square is empty.
@@ -68,7 +69,18 @@ public abstract class Square {
      */
     public static Square createSquare(final int squareCoord, final Piece piece)
     {
-        return piece != null ? new FullSquare(squareCoord, piece) : ALL_EMPTY_SQUARES.get((Object)squareCoord);
+        if(piece == null)
+        {
+            return ALL_EMPTY_SQUARES[squareCoord];
+        }
+        final int pieceIndex = PieceData.INSTANCE.indexOf(piece);
+        FullSquare fullSquare = ALL_FULL_SQUARES[pieceIndex];
+        if(fullSquare == null)
+        {
+            fullSquare = new FullSquare(squareCoord, piece);
+            ALL_FULL_SQUARES[pieceIndex] = fullSquare;
+        }
+        return fullSquare;
     }
 
     /**
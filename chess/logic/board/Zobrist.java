@@ -0,0 +1,145 @@
+package chess.logic.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `Zobrist` class holds the random keys used to hash chess positions.
+ * A position key is the exclusive or of the keys of every piece on its square, the side to move,
+ * the castling rights and the file of the en passant square, so a move only has to toggle the keys it changes.
+ */
+public final class Zobrist {
+    private static final long SEED = 0x2545F4914F6CDD1DL; // Fixed seed so keys are identical between runs
+
+    private static final long[][] PIECE_SQUARE_KEYS = new long[12][64];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_FILE_KEYS = new long[8];
+    private static final long SIDE_KEY;
+
+    static
+    {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for(final long[] squareKeys : PIECE_SQUARE_KEYS)
+        {
+            for(int squareCoord = 0; squareCoord < 64; ++squareCoord)
+            {
+                squareKeys[squareCoord] = random.nextLong();
+            }
+        }
+        for(int castlingRights = 0; castlingRights < 16; ++castlingRights)
+        {
+            CASTLING_KEYS[castlingRights] = random.nextLong();
+        }
+        for(int file = 0; file < 8; ++file)
+        {
+            EN_PASSANT_FILE_KEYS[file] = random.nextLong();
+        }
+        SIDE_KEY = random.nextLong();
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the `Zobrist` class.
+     */
+    private Zobrist()
+    {
+        throw new RuntimeException("Not for creating");
+    }
+
+    /**
+     * Retrieves the key of a piece standing on a square.
+     *
+     * @param pieceCode   the code of the piece
+     * @param squareCoord the coordinate of the square
+     * @return the piece-square key
+     */
+    public static long pieceKey(final int pieceCode, final int squareCoord)
+    {
+        return PIECE_SQUARE_KEYS[pieceCode][squareCoord];
+    }
+
+    /**
+     * Retrieves the key of a combination of castling rights.
+     *
+     * @param castlingRights the castling right bits
+     * @return the castling key
+     */
+    public static long castlingKey(final int castlingRights)
+    {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * Retrieves the key of an en passant square. Only the file of the square is hashed.
+     *
+     * @param enPassantCoord the en passant square, or -1 if none
+     * @return the en passant key, or 0 if there is no en passant square
+     */
+    public static long enPassantKey(final int enPassantCoord)
+    {
+        return enPassantCoord < 0 ? 0L : EN_PASSANT_FILE_KEYS[enPassantCoord & 7];
+    }
+
+    /**
+     * Retrieves the key toggled every time the side to move changes.
+     *
+     * @return the side key
+     */
+    public static long sideKey()
+    {
+        return SIDE_KEY;
+    }
+
+    /**
+     * Calculates the key of a position from scratch.
+     * Only used when a position is set up; moves update the key incrementally.
+     *
+     * @param bitBoard the position
+     * @return the Zobrist key of the position
+     */
+    static long calcKey(final BitBoard bitBoard)
+    {
+        long key = 0L;
+        long occupied = bitBoard.occupancy;
+        while(occupied != 0)
+        {
+            final int squareCoord = Long.numberOfTrailingZeros(occupied);
+            key ^= PIECE_SQUARE_KEYS[bitBoard.getPieceCode(squareCoord)][squareCoord];
+            occupied &= occupied - 1;
+        }
+        key ^= CASTLING_KEYS[bitBoard.castlingRights];
+        key ^= enPassantKey(bitBoard.enPassantCoord);
+        return bitBoard.sideToMove.isBlack() ? key ^ SIDE_KEY : key;
+    }
+
+    /**
+     * Calculates the key of the position reached by a move, starting from the key of the position it is made on.
+     * Only the pieces, castling rights and en passant square touched by the move are toggled;
+     * castling toggles the rook as well, and en passant the pawn taken beside the destination square.
+     *
+     * @param bitBoard the position the move is made on
+     * @param move     the move code
+     * @return the Zobrist key of the resulting position
+     */
+    static long keyAfter(final BitBoard bitBoard, final int move)
+    {
+        final int from = MoveCode.from(move);
+        final int to = MoveCode.to(move);
+        final int capturedCode = MoveCode.capturedPiece(move);
+        final int castlingRights = bitBoard.castlingRights & BitBoard.CASTLING_MASK[from] & BitBoard.CASTLING_MASK[to];
+        final int enPassantCoord = MoveCode.isPawnJump(move) ? (from + to) / 2 : -1;
+
+        long key = bitBoard.zobristKey ^ SIDE_KEY;
+        key ^= PIECE_SQUARE_KEYS[MoveCode.movedPiece(move)][from] ^ PIECE_SQUARE_KEYS[MoveCode.placedPiece(move)][to];
+        if(capturedCode != BitBoard.EMPTY)
+        {
+            key ^= PIECE_SQUARE_KEYS[capturedCode][MoveCode.captureSquare(move)];
+        }
+        if(MoveCode.isCastle(move))
+        {
+            final int rookCode = MoveCode.castlingRook(move);
+            key ^= PIECE_SQUARE_KEYS[rookCode][MoveCode.castlingRookFrom(move)] ^ PIECE_SQUARE_KEYS[rookCode][MoveCode.castlingRookTo(move)];
+        }
+        key ^= CASTLING_KEYS[bitBoard.castlingRights] ^ CASTLING_KEYS[castlingRights];
+        key ^= enPassantKey(bitBoard.enPassantCoord) ^ enPassantKey(enPassantCoord);
+        return key;
+    }
+}
@@ -4,91 +4,120 @@ import chess.Color;
 import chess.logic.board.*;
 import chess.logic.pieces.*;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 /**
  * Abstract class representing a player in the chess game.
  */
 public abstract class Player {
     protected final Board board;
-    protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean isInCheck;
+    private volatile Collection<Move> legalMoves; // Generated on first access
+    private volatile LegalMoveFilter legalMoveFilter; // Created on first access
+    private volatile Boolean hasLegalMove; // Computed on first access
+    private volatile MoveIndex moveIndex; // Built from the legal moves on first lookup
 
     /**
      * Constructor for Player class.
+     * Nothing is computed here: the king, the legal moves and the legality filter are worked out on first access
+     * and then kept, so boards built only to test a move never generate the moves they do not need.
      *
-     * @param board       The chess board.
-     * @param playerMoves Collection of legal moves for the player.
-     * @param enemyMoves  Collection of legal moves for the opponent.
+     * @param board The chess board.
      */
-    Player(final Board board, final Collection<Move> playerMoves, final Collection<Move> enemyMoves)
+    Player(final Board board)
     {
         this.board = board;
-        this.playerKing = createKing();
-        this.isInCheck = !Player.calcAttackOnSquare(this.playerKing.getPieceCoord(), enemyMoves).isEmpty();
-        this.legalMoves = Collections.unmodifiableCollection(playerMoves);
     }
 
     /**
-     * Calculates the attack moves on a specific square.
+     * Checks if a move is legal for the player, looking it up in the move index instead of scanning the move list.
      *
-     * @param pieceCoord The coordinate of the square.
-     * @param moves      Collection of moves to check.
-     * @return Collection of attack moves on the specified square.
+     * @param move The move to check.
+     * @return True if the move is legal, false otherwise.
      */
-    public static Collection<Move> calcAttackOnSquare(int pieceCoord, Collection<Move> moves)
+    public boolean isMoveLegal(final Move move)
     {
-        final List<Move> attackMoves = new ArrayList<>();
-        for(final Move move : moves)
-        {
-            if(pieceCoord == move.getDestinationCoord())
-            {
-                attackMoves.add(move);
-            }
-        }
-        return attackMoves;
+        return getMoveIndex().contains(move);
+    }
+
+    /**
+     * Finds the player's move going from one square to another, a queen promotion if the move promotes.
+     *
+     * @param currentCoord     The origin square.
+     * @param destinationCoord The destination square.
+     * @return The move, or Move.INVALID_MOVE if the player has no such move.
+     */
+    public Move findMove(final int currentCoord, final int destinationCoord)
+    {
+        return getMoveIndex().get(currentCoord, destinationCoord);
     }
 
     /**
-     * Creates the player's king piece.
+     * Gets the index of the player's moves by origin, destination and promotion.
+     * It is built from the move list the first time a move is looked up and kept for later calls.
      *
-     * @return The king piece.
+     * @return The move index.
      */
-    private King createKing()
+    public MoveIndex getMoveIndex()
     {
-        for(final Piece piece : getActivePieces())
+        MoveIndex index = this.moveIndex;
+        if(index == null)
         {
-            if(piece.getPieceType().isKing())
+            synchronized(this)
             {
-                return (King) piece;
+                index = this.moveIndex;
+                if(index == null)
+                {
+                    index = new MoveIndex(getLegalMoves());
+                    this.moveIndex = index;
+                }
             }
         }
-        throw new RuntimeException("HOW ARE YOU PLAYING WITHOUT A KING??");
+        return index;
     }
 
     /**
-     * Checks if a move is legal for the player.
+     * Checks if the player is in check.
      *
-     * @param move The move to check.
-     * @return True if the move is legal, false otherwise.
+     * @return True if the player is in check, false otherwise.
      */
-    public boolean isMoveLegal(final Move move)
+    public boolean isInCheck()
     {
-        return this.legalMoves.contains(move);
+        return getLegalMoveFilter().isInCheck();
     }
 
     /**
-     * Checks if the player is in check.
+     * Gets the filter telling which of the player's moves leave the king safe.
+     * Checkers and pinned pieces are worked out once per board, the first time a move is tested.
      *
-     * @return True if the player is in check, false otherwise.
+     * @return The legality filter of the player's moves.
      */
-    public boolean isInCheck()
+    public LegalMoveFilter getLegalMoveFilter()
     {
-        return this.isInCheck;
+        LegalMoveFilter filter = this.legalMoveFilter;
+        if(filter == null)
+        {
+            synchronized(this)
+            {
+                filter = this.legalMoveFilter;
+                if(filter == null)
+                {
+                    filter = new LegalMoveFilter(this.board.getBitBoard(), getColor());
+                    this.legalMoveFilter = filter;
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Counts the player's legal moves without creating any move.
+     *
+     * @return The number of legal moves.
+     */
+    public int legalMoveCount()
+    {
+        return MoveGenerator.countLegalMoves(this.board.getBitBoard(), getColor(), getLegalMoveFilter());
     }
 
     /**
@@ -98,29 +127,38 @@ public abstract class Player {
      */
     public boolean isMated()
     {
-        return this.isInCheck && hasEscape();
+        return isInCheck() && !hasLegalMove();
     }
 
     /**
-     * Checks if the player has an escape move.
+     * Checks if the player has at least one move that does not leave the king in check.
+     * The moves are tested with the legality filter, stopping at the first legal one, without building any board.
+     * The answer is computed once per board.
      *
-     * @return True if the player has an escape move, false otherwise.
+     * @return True if the player can move, false otherwise.
      */
-    private boolean hasEscape()
+    public boolean hasLegalMove()
     {
-        for(final Move move : this.legalMoves)
+        Boolean canMove = this.hasLegalMove;
+        if(canMove == null)
         {
-            final Changer changeMove = makeMove(move);
-            if(changeMove.moveSt().isDone())
+            synchronized(this)
             {
-                return false;
+                canMove = this.hasLegalMove;
+                if(canMove == null)
+                {
+                    canMove = MoveGenerator.hasLegalMove(this.board.getBitBoard(), getColor(), getLegalMoveFilter());
+                    this.hasLegalMove = canMove;
+                }
             }
         }
-        return true;
+        return canMove;
     }
 
     /**
      * Makes a move for the player and returns the result.
+     * Whether the move leaves the king in check is decided by the legality filter before the move is made,
+     * so the resulting board is only built for moves that are actually played.
      *
      * @param move The move to make.
      * @return A Changer object containing the changed board and the move state.
@@ -131,13 +169,11 @@ public abstract class Player {
         {
             return new Changer(this.board, move, MoveSt.ILLEGAL_MOVE);
         }
-        final Board changedBoard = move.make();
-        final Collection<Move> attacksOnKing = Player.calcAttackOnSquare(changedBoard.getCurrentPlayer().getEnemy().getPlayerKing().getPieceCoord(), changedBoard.getCurrentPlayer().getLegalMoves());
-        if(!attacksOnKing.isEmpty())
+        if(!getLegalMoveFilter().isLegal(move))
         {
             return new Changer(this.board, move, MoveSt.IN_CHECK);
         }
-        return new Changer(changedBoard, move, MoveSt.DONE);
+        return new Changer(move.make(), move, MoveSt.DONE);
     }
 
     /**
@@ -147,17 +183,21 @@ public abstract class Player {
      */
     public boolean isStalemate()
     {
-        return !this.isInCheck && hasEscape();
+        return !isInCheck() && !hasLegalMove();
     }
 
     /**
-     * Gets the player's king piece.
+     * Gets the player's king piece, looked up from the king square kept by the board.
      *
      * @return The player's king piece.
      */
     public King getPlayerKing()
     {
-        return this.playerKing;
+        if(this.board.pieces(getColor(), Piece.PieceType.KING) == 0)
+        {
+            throw new RuntimeException("HOW ARE YOU PLAYING WITHOUT A KING??");
+        }
+        return (King) this.board.getPiece(this.board.getKingCoord(getColor()));
     }
 
     /**
@@ -172,12 +212,26 @@ public abstract class Player {
 
     /**
      * Gets the legal moves for the player.
+     * The moves are generated the first time they are asked for and kept for later calls.
      *
      * @return Collection of legal moves for the player.
      */
     public Collection<Move> getLegalMoves()
     {
-        return this.legalMoves;
+        Collection<Move> moves = this.legalMoves;
+        if(moves == null)
+        {
+            synchronized(this)
+            {
+                moves = this.legalMoves;
+                if(moves == null)
+                {
+                    moves = Collections.unmodifiableCollection(this.board.calcLegalMoves(getActivePieces()));
+                    this.legalMoves = moves;
+                }
+            }
+        }
+        return moves;
     }
 
     // why need this?
@@ -206,6 +260,4 @@ public abstract class Player {
      * @return The enemy player.
      */
     public abstract Player getEnemy();
-
-    protected abstract Collection<Move> calcCastle(Collection<Move> playerLegalMoves, Collection<Move> enemyLegalMoves);
 }